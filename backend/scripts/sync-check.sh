@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Checks synchronized chime playback on one machine.
+#
+#   scripts/sync-check.sh [instances] [presses]   (default 3 hubs, 5 presses)
+#
+# Starts several hubs on the loopback interface, each with a deliberately skewed clock and a file sink,
+# presses the chime on the second one a few times and prints when every hub started each ring
+# (unskewed system clock) and the spread between the earliest and latest start.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+N=${1:-3}
+PRESSES=${2:-5}
+OUT=target/sync-check
+JAR=target/backend-0.0.1-SNAPSHOT.jar
+SKEWS=(0 45 -70 120 -150)
+
+mvn -B -q -DskipTests package
+rm -rf "$OUT" && mkdir -p "$OUT"
+
+pids=()
+trap 'kill "${pids[@]}" 2>/dev/null || true' EXIT
+for i in $(seq 1 "$N"); do
+  java -jar "$JAR" \
+    --server.port=$((8090 + i)) \
+    --hub.weather.initial-delay-ms=3600000 \
+    --hub.peer.enabled=true --hub.peer.interface-name=lo --hub.peer.node-id="hub-$i" \
+    --hub.sync.enabled=true --hub.sync.sink=file --hub.sync.sink-file="$OUT/hub-$i.csv" \
+    --hub.sync.clock-skew-ms="${SKEWS[$(( (i - 1) % ${#SKEWS[@]} ))]}" \
+    > "$OUT/hub-$i.log" 2>&1 &
+  pids+=($!)
+done
+
+for i in $(seq 1 "$N"); do
+  until curl -sf -o /dev/null "http://localhost:$((8090 + i))/api/alerts"; do
+    kill -0 "${pids[$((i - 1))]}" 2>/dev/null || { echo "hub-$i exited, see $OUT/hub-$i.log" >&2; exit 1; }
+    sleep 0.2
+  done
+done
+sleep 3 # a few clock exchanges
+
+for _ in $(seq 1 "$PRESSES"); do
+  curl -sf -X POST "http://localhost:8092/api/chime/play" > /dev/null
+  sleep 1
+done
+
+cat "$OUT"/hub-*.csv | sort -t, -k3,3n -k4,4n | awk -F, '
+  function done() { if (ring != "") printf "ring #%s: %d hubs, spread %d us\n", ring, hubs, last - first }
+  $3 != ring { done(); ring = $3; first = $4; hubs = 0 }
+  { printf "  %-8s origin=%s start=%s late=%sus\n", $1, $2, $4, $5; last = $4; hubs++ }
+  END { done() }'
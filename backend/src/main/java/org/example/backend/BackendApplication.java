@@ -1,15 +1,24 @@
 package org.example.backend;
 
+import org.example.backend.startup.StartupTimeline;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableScheduling
 public class BackendApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(BackendApplication.class, args);
+        StartupTimeline.markOnce(StartupTimeline.MAIN);
+        var app = new SpringApplication(BackendApplication.class);
+        if (Boolean.getBoolean("hub.startup.steps")) {
+            app.setApplicationStartup(new BufferingApplicationStartup(4096));
+        }
+        app.run(args);
     }
 
 }
@@ -0,0 +1,184 @@
+package org.example.backend.alert;
+
+import org.example.backend.config.AlertProperties;
+import org.example.backend.model.alert.Alert;
+import org.example.backend.model.weather.WeatherSnapshot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Rules compiled into one sorted threshold array per (day, metric, direction). Within such a group the rules
+ * that hold for a value are always a prefix, so evaluating a snapshot is one binary search per group, and the
+ * difference between two snapshots is the slice between their two prefix lengths. The number of groups is
+ * fixed, so the cost grows with the log of the rule count, not with the rule count itself.
+ */
+final class AlertRules {
+
+    private static final Pattern WHEN = Pattern.compile(
+            "\\s*(today|tomorrow)\\.(\\w+)\\s*(>=|<=|>|<)\\s*(-?\\d+(?:\\.\\d+)?)\\s*");
+
+    enum Day {
+        TODAY(WeatherSnapshot::today), TOMORROW(WeatherSnapshot::tomorrow);
+
+        final Function<WeatherSnapshot, WeatherSnapshot.Day> get;
+
+        Day(Function<WeatherSnapshot, WeatherSnapshot.Day> get) {
+            this.get = get;
+        }
+    }
+
+    enum Metric {
+        MAX(WeatherSnapshot.Day::max),
+        MIN(WeatherSnapshot.Day::min),
+        PRECIPSUM(WeatherSnapshot.Day::precipSum),
+        CODE(WeatherSnapshot.Day::code),
+        PRECIPPROBMEAN(WeatherSnapshot.Day::precipProbMean),
+        PRECIPPROBMAX(WeatherSnapshot.Day::precipProbMax);
+
+        final Function<WeatherSnapshot.Day, Number> get;
+
+        Metric(Function<WeatherSnapshot.Day, Number> get) {
+            this.get = get;
+        }
+    }
+
+    record Change(Alert alert, boolean raised, Double value) {}
+
+    private record Compiled(Day day, Metric metric, boolean above, double threshold, boolean strict, Alert alert) {}
+
+    /** Rules of one (day, metric, direction), ordered so that those holding for any value form a prefix. */
+    private record Group(Day day, Metric metric, boolean above, double[] thresholds, boolean[] strict, Alert[] alerts) {
+
+        Double value(WeatherSnapshot snap) {
+            if (snap == null) return null;
+            var d = day.get.apply(snap);
+            if (d == null) return null;
+            Number n = metric.get.apply(d);
+            return n == null ? null : n.doubleValue();
+        }
+
+        /** Length of the prefix holding for {@code v}. */
+        int holding(Double v) {
+            if (v == null) return 0;
+            int lo = 0, hi = thresholds.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (holds(mid, v)) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        private boolean holds(int i, double v) {
+            double t = thresholds[i];
+            if (above) return strict[i] ? v > t : v >= t;
+            return strict[i] ? v < t : v <= t;
+        }
+    }
+
+    private final Group[] groups;
+    private final int size;
+
+    private AlertRules(Group[] groups, int size) {
+        this.groups = groups;
+        this.size = size;
+    }
+
+    /** Compiles the rules for {@code location}; throws {@link IllegalStateException} on a malformed rule. */
+    static AlertRules compile(List<AlertProperties.Rule> rules, String location) {
+        Map<String, List<Compiled>> byGroup = new LinkedHashMap<>();
+        int size = 0;
+        for (var rule : rules) {
+            if (rule.location() != null && !rule.location().isBlank() && !location.equals(normalize(rule.location()))) {
+                continue;
+            }
+            var c = parse(rule);
+            byGroup.computeIfAbsent(c.day() + "/" + c.metric() + "/" + c.above(), k -> new ArrayList<>()).add(c);
+            size++;
+        }
+
+        var groups = new ArrayList<Group>();
+        for (var list : byGroup.values()) {
+            boolean above = list.getFirst().above();
+            // above: ascending thresholds, at equal thresholds ">=" before ">"; below: the mirror image
+            Comparator<Compiled> order = Comparator.comparingDouble(Compiled::threshold);
+            if (!above) order = order.reversed();
+            order = order.thenComparing(Compiled::strict);
+            list.sort(order);
+
+            int n = list.size();
+            double[] thresholds = new double[n];
+            boolean[] strict = new boolean[n];
+            Alert[] alerts = new Alert[n];
+            for (int i = 0; i < n; i++) {
+                thresholds[i] = list.get(i).threshold();
+                strict[i] = list.get(i).strict();
+                alerts[i] = list.get(i).alert();
+            }
+            var first = list.getFirst();
+            groups.add(new Group(first.day(), first.metric(), above, thresholds, strict, alerts));
+        }
+        return new AlertRules(groups.toArray(Group[]::new), size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Rules that started ({@code raised}) or stopped holding between {@code prev} and {@code next}. */
+    List<Change> diff(WeatherSnapshot prev, WeatherSnapshot next) {
+        List<Change> changes = new ArrayList<>();
+        for (var g : groups) {
+            Double value = g.value(next);
+            int before = g.holding(g.value(prev));
+            int after = g.holding(value);
+            for (int i = before; i < after; i++) changes.add(new Change(g.alerts()[i], true, value));
+            for (int i = after; i < before; i++) changes.add(new Change(g.alerts()[i], false, value));
+        }
+        return changes;
+    }
+
+    List<Alert> active(WeatherSnapshot snap) {
+        List<Alert> active = new ArrayList<>();
+        for (var g : groups) {
+            active.addAll(Arrays.asList(g.alerts()).subList(0, g.holding(g.value(snap))));
+        }
+        return active;
+    }
+
+    private static Compiled parse(AlertProperties.Rule rule) {
+        if (rule.id() == null || rule.id().isBlank() || rule.when() == null) {
+            throw new IllegalStateException("alert rule needs an id and a condition: " + rule);
+        }
+        var m = WHEN.matcher(rule.when());
+        if (!m.matches()) {
+            throw new IllegalStateException("alert rule " + rule.id() + ": cannot parse '" + rule.when()
+                    + "', expected <today|tomorrow>.<metric> <op> <number>");
+        }
+        Metric metric;
+        try {
+            metric = Metric.valueOf(m.group(2).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("alert rule " + rule.id() + ": unknown metric '" + m.group(2)
+                    + "', one of " + Arrays.toString(Metric.values()));
+        }
+        String op = m.group(3);
+        var alert = new Alert(rule.id(), rule.when().trim(), rule.message() != null ? rule.message() : rule.id());
+        return new Compiled(Day.valueOf(m.group(1).toUpperCase(Locale.ROOT)), metric, op.startsWith(">"),
+                Double.parseDouble(m.group(4)), op.length() == 1, alert);
+    }
+
+    private static String normalize(String location) {
+        String[] parts = location.split(",");
+        if (parts.length != 2) throw new IllegalStateException("alert rule location must be 'lat,lon': " + location);
+        return Double.parseDouble(parts[0].trim()) + "," + Double.parseDouble(parts[1].trim());
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.backend.alert;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.config.AlertProperties;
+import org.example.backend.config.WeatherProperties;
+import org.example.backend.model.alert.Alert;
+import org.example.backend.model.alert.AlertTransition;
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.example.backend.service.WeatherStreamBroadcaster;
+import org.example.backend.service.WeatherUpdatedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evaluates the alert rules once per stored weather snapshot against the previous one and pushes only
+ * the transitions to SSE clients and, through {@link AlertsChangedEvent}, to WebSocket clients.
+ */
+@Slf4j
+@Service
+public class AlertService {
+
+    private final AlertRules rules;
+    private final WeatherStreamBroadcaster broadcaster;
+    private final ApplicationEventPublisher events;
+
+    private WeatherSnapshot last;
+    private volatile List<Alert> active = List.of();
+
+    public AlertService(AlertProperties props,
+                        WeatherProperties weather,
+                        WeatherStreamBroadcaster broadcaster,
+                        ApplicationEventPublisher events) {
+        this.rules = AlertRules.compile(props.rules(), weather.locationKey());
+        this.broadcaster = broadcaster;
+        this.events = events;
+        log.info("{} weather alert rule(s) loaded", rules.size());
+    }
+
+    public List<Alert> active() {
+        return active;
+    }
+
+    @EventListener
+    public synchronized void onWeather(WeatherUpdatedEvent event) {
+        var next = event.snapshot();
+        var changes = rules.diff(last, next);
+        last = next;
+        if (changes.isEmpty()) return;
+
+        active = List.copyOf(rules.active(next));
+        var transitions = new ArrayList<AlertTransition>(changes.size());
+        for (var c : changes) {
+            var state = c.raised() ? AlertTransition.State.RAISED : AlertTransition.State.CLEARED;
+            log.info("weather alert {} {} (value {})", c.alert().id(), state, c.value());
+            var transition = new AlertTransition(state, c.alert(), c.value(), next.updatedAt());
+            transitions.add(transition);
+            broadcaster.broadcastAlert(transition);
+        }
+        events.publishEvent(new AlertsChangedEvent(active, List.copyOf(transitions)));
+    }
+}
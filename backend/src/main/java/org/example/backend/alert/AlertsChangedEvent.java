@@ -0,0 +1,9 @@
+package org.example.backend.alert;
+
+import org.example.backend.model.alert.Alert;
+import org.example.backend.model.alert.AlertTransition;
+
+import java.util.List;
+
+/** Published after a refresh raised or cleared at least one alert; {@code transitions} are the ones it did. */
+public record AlertsChangedEvent(List<Alert> active, List<AlertTransition> transitions) {}
@@ -0,0 +1,65 @@
+package org.example.backend.audio;
+
+import javazoom.jl.decoder.Bitstream;
+import javazoom.jl.decoder.BitstreamException;
+import javazoom.jl.decoder.Decoder;
+import javazoom.jl.decoder.DecoderException;
+import javazoom.jl.decoder.Header;
+import javazoom.jl.decoder.SampleBuffer;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/** Decodes chime files (MP3 via JLayer, anything Java Sound reads) to {@link Pcm}. */
+public final class AudioDecoder {
+
+    private AudioDecoder() {
+    }
+
+    public static Pcm decode(byte[] data, boolean mp3) throws IOException, UnsupportedAudioFileException {
+        return mp3 ? decodeMp3(data) : decodeSampled(data);
+    }
+
+    static Pcm decodeMp3(byte[] data) throws IOException {
+        Bitstream bitstream = new Bitstream(new ByteArrayInputStream(data));
+        Decoder decoder = new Decoder();
+        float[] out = new float[data.length * 4];
+        int n = 0;
+        try {
+            Header header;
+            while ((header = bitstream.readFrame()) != null) {
+                SampleBuffer frame = (SampleBuffer) decoder.decodeFrame(header, bitstream);
+                short[] buf = frame.getBuffer();
+                int len = frame.getBufferLength();
+                if (n + len > out.length) out = Arrays.copyOf(out, Math.max(out.length * 2, n + len));
+                for (int i = 0; i < len; i++) out[n++] = buf[i] / (float) Short.MAX_VALUE;
+                bitstream.closeFrame();
+            }
+        } catch (BitstreamException | DecoderException e) {
+            throw new IOException("mp3 decoding failed", e);
+        } finally {
+            try {
+                bitstream.close();
+            } catch (BitstreamException ignored) {
+                // in-memory stream
+            }
+        }
+        int channels = Math.max(1, decoder.getOutputChannels());
+        return new Pcm(decoder.getOutputFrequency(), channels, Arrays.copyOf(out, n - n % channels));
+    }
+
+    static Pcm decodeSampled(byte[] data) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new ByteArrayInputStream(data))) {
+            AudioFormat src = source.getFormat();
+            AudioFormat pcm16 = new AudioFormat(src.getSampleRate(), 16, src.getChannels(), true, false);
+            try (AudioInputStream converted = AudioSystem.getAudioInputStream(pcm16, source)) {
+                return Pcm.fromBytes16(pcm16, converted.readAllBytes());
+            }
+        }
+    }
+}
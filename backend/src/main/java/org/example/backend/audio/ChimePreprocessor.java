@@ -0,0 +1,163 @@
+package org.example.backend.audio;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.config.ChimeProperties;
+import org.example.backend.model.SoundSource;
+import org.example.backend.service.ChimeService;
+import org.example.backend.startup.StartupTimeline;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.DataLine;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Load-time pipeline for the chime: decode, trim leading/trailing silence, convert to the output line's
+ * format (sample rate and channels), normalize loudness. The result is cached on disk as a WAV keyed by the
+ * SHA-256 of the source file and the pipeline settings, so later startups only read it back.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class ChimePreprocessor {
+
+    /** Bump when the pipeline output changes, to invalidate existing cache entries. */
+    static final int PIPELINE_VERSION = 1;
+
+    private static final float FALLBACK_RATE = 48_000f;
+    private static final int FALLBACK_CHANNELS = 2;
+
+    private final ChimeService chime;
+    private final ChimeProperties props;
+
+    public ChimePreprocessor(ChimeService chime, ChimeProperties props) {
+        this.chime = chime;
+        this.props = props;
+    }
+
+    @PostConstruct
+    void prepareAll() {
+        if (!props.preprocess()) return;
+        chime.resolveSource().ifPresent(src -> {
+            try (InputStream in = new ClassPathResource(src.classpath()).getInputStream()) {
+                var prepared = prepare(src, in.readAllBytes(), outputFormat());
+                chime.usePrepared(src.classpath(), prepared);
+                log.info("Chime prepared: {} -> {} ms, {} ({})", src.classpath(), Math.round(prepared.durationMs()),
+                        prepared.format(), prepared.fromCache() ? "cached" : "processed");
+            } catch (IOException | UnsupportedAudioFileException | RuntimeException e) {
+                log.warn("Chime preprocessing failed for {}, playing it unprocessed: {}", src.classpath(), e.getMessage());
+            }
+        });
+        StartupTimeline.markOnce(StartupTimeline.CHIME_PREPARED);
+    }
+
+    PreparedChime prepare(SoundSource src, byte[] data, AudioFormat target)
+            throws IOException, UnsupportedAudioFileException {
+        Path cached = Path.of(props.cacheDir()).resolve(cacheKey(data, target) + ".wav");
+        if (Files.isReadable(cached)) {
+            try (AudioInputStream ais = AudioSystem.getAudioInputStream(cached.toFile())) {
+                return new PreparedChime(ais.getFormat(), ais.readAllBytes(), true);
+            } catch (IOException | UnsupportedAudioFileException e) {
+                log.debug("unreadable chime cache entry {}, rebuilding", cached);
+            }
+        }
+
+        Pcm pcm = AudioDecoder.decode(data, src.mp3());
+        if (pcm.frames() == 0) throw new IOException("no audio in " + src.classpath());
+        pcm = PcmProcessing.trimSilence(pcm, props.silenceThresholdDb());
+        pcm = PcmProcessing.toChannels(pcm, target.getChannels());
+        pcm = PcmProcessing.resample(pcm, target.getSampleRate());
+        pcm = PcmProcessing.normalize(pcm, props.targetRmsDb(), props.peakCeilingDb(), props.silenceThresholdDb());
+
+        var prepared = new PreparedChime(pcm.format16(), pcm.toBytes16(), false);
+        write(cached, prepared);
+        return prepared;
+    }
+
+    /**
+     * Format to open the output line with. Configured values win; otherwise the default mixer's first
+     * concrete 16-bit PCM format, otherwise 48 kHz stereo.
+     */
+    AudioFormat outputFormat() {
+        float rate = props.sampleRate() > 0 ? props.sampleRate() : 0;
+        int channels = props.channels() > 0 ? props.channels() : 0;
+        if (rate == 0 || channels == 0) {
+            AudioFormat line = lineFormat();
+            if (rate == 0) rate = line != null ? line.getSampleRate() : FALLBACK_RATE;
+            if (channels == 0) channels = line != null ? line.getChannels() : FALLBACK_CHANNELS;
+        }
+        return new AudioFormat(rate, 16, channels, true, false);
+    }
+
+    private static AudioFormat lineFormat() {
+        try {
+            var info = AudioSystem.getMixer(null).getSourceLineInfo(new DataLine.Info(SourceDataLine.class, null));
+            return Arrays.stream(info)
+                    .filter(DataLine.Info.class::isInstance)
+                    .flatMap(i -> Arrays.stream(((DataLine.Info) i).getFormats()))
+                    .filter(f -> f.getEncoding() == AudioFormat.Encoding.PCM_SIGNED
+                            && f.getSampleSizeInBits() == 16
+                            && f.getSampleRate() != AudioSystem.NOT_SPECIFIED
+                            && f.getChannels() != AudioSystem.NOT_SPECIFIED)
+                    .findFirst()
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    String cacheKey(byte[] data, AudioFormat target) {
+        try {
+            var sha = MessageDigest.getInstance("SHA-256");
+            sha.update(data);
+            sha.update(("v" + PIPELINE_VERSION
+                    + "|" + target.getSampleRate() + "|" + target.getChannels()
+                    + "|" + props.silenceThresholdDb() + "|" + props.targetRmsDb() + "|" + props.peakCeilingDb())
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(sha.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void write(Path file, PreparedChime prepared) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            tmp = Files.createTempFile(file.getParent(), "chime", ".tmp");
+            long frames = prepared.pcm().length / prepared.format().getFrameSize();
+            try (var ais = new AudioInputStream(new ByteArrayInputStream(prepared.pcm()), prepared.format(), frames)) {
+                AudioSystem.write(ais, AudioFileFormat.Type.WAVE, tmp.toFile());
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("could not cache prepared chime at {}: {}", file, e.getMessage());
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // best effort
+                }
+            }
+        }
+    }
+}
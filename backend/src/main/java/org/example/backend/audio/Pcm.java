@@ -0,0 +1,43 @@
+package org.example.backend.audio;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Decoded audio as interleaved float samples in [-1, 1].
+ */
+public record Pcm(float sampleRate, int channels, float[] samples) {
+
+    public int frames() {
+        return samples.length / channels;
+    }
+
+    public double durationMs() {
+        return frames() * 1000.0 / sampleRate;
+    }
+
+    /** 16-bit signed little-endian PCM, the format the output line is opened with. */
+    public AudioFormat format16() {
+        return new AudioFormat(sampleRate, 16, channels, true, false);
+    }
+
+    public byte[] toBytes16() {
+        byte[] out = new byte[samples.length * 2];
+        for (int i = 0; i < samples.length; i++) {
+            int v = Math.round(Math.clamp(samples[i], -1f, 1f) * Short.MAX_VALUE);
+            out[2 * i] = (byte) v;
+            out[2 * i + 1] = (byte) (v >> 8);
+        }
+        return out;
+    }
+
+    public static Pcm fromBytes16(AudioFormat format, byte[] data) {
+        boolean bigEndian = format.isBigEndian();
+        float[] samples = new float[data.length / 2];
+        for (int i = 0; i < samples.length; i++) {
+            int lo = data[2 * i + (bigEndian ? 1 : 0)] & 0xff;
+            int hi = data[2 * i + (bigEndian ? 0 : 1)];
+            samples[i] = (short) ((hi << 8) | lo) / (float) Short.MAX_VALUE;
+        }
+        return new Pcm(format.getSampleRate(), format.getChannels(), samples);
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.backend.audio;
+
+/**
+ * Offline DSP steps of the chime pipeline. All operations return new buffers.
+ */
+public final class PcmProcessing {
+
+    /** Kept in front of the first audible sample so the attack is not clipped. */
+    static final double LEAD_PAD_MS = 2;
+    /** Kept after the last audible sample, faded out, so the tail does not end with a click. */
+    static final double TAIL_PAD_MS = 30;
+
+    private PcmProcessing() {
+    }
+
+    public static double dbToAmplitude(double db) {
+        return Math.pow(10, db / 20);
+    }
+
+    /** Drops leading and trailing frames whose peak over all channels stays below {@code thresholdDb}. */
+    public static Pcm trimSilence(Pcm pcm, double thresholdDb) {
+        float threshold = (float) dbToAmplitude(thresholdDb);
+        int frames = pcm.frames();
+        int first = 0;
+        while (first < frames && framePeak(pcm, first) < threshold) first++;
+        if (first == frames) {
+            return new Pcm(pcm.sampleRate(), pcm.channels(), new float[0]);
+        }
+        int last = frames - 1;
+        while (last > first && framePeak(pcm, last) < threshold) last--;
+
+        int start = Math.max(0, first - msToFrames(pcm, LEAD_PAD_MS));
+        int tailPad = msToFrames(pcm, TAIL_PAD_MS);
+        int end = Math.min(frames, last + 1 + tailPad);
+
+        int ch = pcm.channels();
+        float[] out = new float[(end - start) * ch];
+        System.arraycopy(pcm.samples(), start * ch, out, 0, out.length);
+        int fadeFrom = Math.max(0, (last + 1 - start));
+        int fadeFrames = (end - start) - fadeFrom;
+        for (int f = 0; f < fadeFrames; f++) {
+            float g = 1f - (f + 1f) / fadeFrames;
+            for (int c = 0; c < ch; c++) out[(fadeFrom + f) * ch + c] *= g;
+        }
+        return new Pcm(pcm.sampleRate(), ch, out);
+    }
+
+    /** Mono is duplicated to every channel, a mono target averages all channels, otherwise the leading channels are kept. */
+    public static Pcm toChannels(Pcm pcm, int channels) {
+        if (pcm.channels() == channels) return pcm;
+        int frames = pcm.frames();
+        int in = pcm.channels();
+        float[] out = new float[frames * channels];
+        for (int f = 0; f < frames; f++) {
+            float mono = 0;
+            for (int c = 0; c < in; c++) mono += pcm.samples()[f * in + c];
+            mono /= in;
+            for (int c = 0; c < channels; c++) {
+                out[f * channels + c] = (in == 1 || channels == 1) ? mono : pcm.samples()[f * in + Math.min(c, in - 1)];
+            }
+        }
+        return new Pcm(pcm.sampleRate(), channels, out);
+    }
+
+    /** Linear-interpolation resampler; good enough for a chime, and cheap. */
+    public static Pcm resample(Pcm pcm, float targetRate) {
+        if (pcm.sampleRate() == targetRate || pcm.frames() == 0) {
+            return new Pcm(targetRate, pcm.channels(), pcm.samples());
+        }
+        int ch = pcm.channels();
+        int inFrames = pcm.frames();
+        double step = pcm.sampleRate() / targetRate;
+        int outFrames = (int) Math.floor((inFrames - 1) / step) + 1;
+        float[] in = pcm.samples();
+        float[] out = new float[outFrames * ch];
+        for (int f = 0; f < outFrames; f++) {
+            double pos = f * step;
+            int i = (int) pos;
+            float frac = (float) (pos - i);
+            int j = Math.min(i + 1, inFrames - 1);
+            for (int c = 0; c < ch; c++) {
+                float a = in[i * ch + c];
+                float b = in[j * ch + c];
+                out[f * ch + c] = a + (b - a) * frac;
+            }
+        }
+        return new Pcm(targetRate, ch, out);
+    }
+
+    /**
+     * Scales to {@code targetRmsDb} (RMS over frames above {@code gateDb}, a simple loudness proxy),
+     * capped so the peak stays at or below {@code peakCeilingDb}.
+     */
+    public static Pcm normalize(Pcm pcm, double targetRmsDb, double peakCeilingDb, double gateDb) {
+        float gate = (float) dbToAmplitude(gateDb);
+        int ch = pcm.channels();
+        double sumSq = 0;
+        long counted = 0;
+        float peak = 0;
+        for (int f = 0; f < pcm.frames(); f++) {
+            float fp = framePeak(pcm, f);
+            peak = Math.max(peak, fp);
+            if (fp < gate) continue;
+            for (int c = 0; c < ch; c++) {
+                float s = pcm.samples()[f * ch + c];
+                sumSq += s * s;
+            }
+            counted += ch;
+        }
+        if (counted == 0 || peak == 0) return pcm;
+
+        double rms = Math.sqrt(sumSq / counted);
+        double gain = Math.min(dbToAmplitude(targetRmsDb) / rms, dbToAmplitude(peakCeilingDb) / peak);
+        float g = (float) gain;
+        float[] out = new float[pcm.samples().length];
+        for (int i = 0; i < out.length; i++) out[i] = pcm.samples()[i] * g;
+        return new Pcm(pcm.sampleRate(), ch, out);
+    }
+
+    static float framePeak(Pcm pcm, int frame) {
+        int ch = pcm.channels();
+        float peak = 0;
+        for (int c = 0; c < ch; c++) peak = Math.max(peak, Math.abs(pcm.samples()[frame * ch + c]));
+        return peak;
+    }
+
+    private static int msToFrames(Pcm pcm, double ms) {
+        return (int) Math.round(ms * pcm.sampleRate() / 1000.0);
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.backend.audio;
+
+import javax.sound.sampled.AudioFormat;
+
+/** Chime PCM ready to be written to the output line as-is. */
+public record PreparedChime(AudioFormat format, byte[] pcm, boolean fromCache) {
+
+    public double durationMs() {
+        return pcm.length * 1000.0 / (format.getFrameSize() * format.getSampleRate());
+    }
+}
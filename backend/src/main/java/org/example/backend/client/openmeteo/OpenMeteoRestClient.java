@@ -1,19 +1,43 @@
 package org.example.backend.client.openmeteo;
 
-import lombok.RequiredArgsConstructor;
 import org.example.backend.model.weather.OpenMeteoDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
+import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Component
-@RequiredArgsConstructor
 public class OpenMeteoRestClient implements OpenMeteoClient {
 
-    private final RestClient.Builder builder;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final RestClient http;
+
+    /** {@code settings} carries Boot's {@code spring.http.client.*} timeouts, which a custom factory must apply itself. */
+    public OpenMeteoRestClient(RestClient.Builder builder,
+                               ClientHttpRequestFactorySettings settings,
+                               @Value("${hub.open-meteo.base-url:https://api.open-meteo.com}") String baseUrl,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (settings.connectTimeout() == null) {
+            settings = settings.withConnectTimeout(CONNECT_TIMEOUT);
+        }
+        var factory = ClientHttpRequestFactoryBuilder.jdk().withHttpClientCustomizer(client -> {
+            if (virtualThreads) {
+                // the JDK client's own async work otherwise runs on a cached pool of platform threads
+                client.executor(Executors.newVirtualThreadPerTaskExecutor());
+            }
+        });
+        this.http = builder.baseUrl(baseUrl)
+                .requestFactory(factory.build(settings))
+                .build();
+    }
 
     @Override
     public OpenMeteoDto fetchDailySummary(double lat, double lon, String tz, int days) {
-        var http = builder.baseUrl("https://api.open-meteo.com").build();
         var url = "/v1/forecast"
                 + "?latitude=" + lat
                 + "&longitude=" + lon
@@ -0,0 +1,46 @@
+package org.example.backend.codec;
+
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/** Serves {@link WeatherSnapshot} as {@code application/cbor} when the client asks for it. */
+public class WeatherCborMessageConverter extends AbstractHttpMessageConverter<WeatherSnapshot> {
+
+    private final WeatherCodec codec;
+
+    public WeatherCborMessageConverter(WeatherCodec codec) {
+        super(MediaType.APPLICATION_CBOR);
+        this.codec = codec;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return WeatherSnapshot.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected WeatherSnapshot readInternal(Class<? extends WeatherSnapshot> clazz, HttpInputMessage input) {
+        throw new HttpMessageNotReadableException("weather snapshots are write-only", input);
+    }
+
+    @Override
+    protected Long getContentLength(WeatherSnapshot snapshot, MediaType contentType) {
+        return (long) codec.cbor(snapshot).length;
+    }
+
+    @Override
+    protected void writeInternal(WeatherSnapshot snapshot, HttpOutputMessage output) throws IOException {
+        output.getBody().write(codec.cbor(snapshot));
+    }
+}
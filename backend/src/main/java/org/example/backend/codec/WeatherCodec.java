@@ -0,0 +1,66 @@
+package org.example.backend.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.example.backend.config.WeatherProperties;
+import org.example.backend.model.alert.AlertFrame;
+import org.example.backend.model.weather.WeatherFrame;
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Encodes a snapshot as a CBOR {@link WeatherFrame}. The last result is kept, so the HTTP endpoint and
+ * every WebSocket client share one encoding per snapshot.
+ */
+@Component
+public class WeatherCodec {
+
+    private final CBORMapper cbor = new CBORMapper();
+    private final ZoneId zone;
+    private final AtomicReference<Encoded> last = new AtomicReference<>();
+
+    private record Encoded(WeatherSnapshot snapshot, byte[] cbor) {}
+
+    public WeatherCodec(WeatherProperties props) {
+        this.zone = ZoneId.of(props.timezone());
+    }
+
+    /** CBOR bytes of {@code snapshot}; the array is shared and must not be modified. */
+    public byte[] cbor(WeatherSnapshot snapshot) {
+        var cached = last.get();
+        if (cached != null && cached.snapshot() == snapshot) {
+            return cached.cbor();
+        }
+        var encoded = new Encoded(snapshot, encode(snapshot));
+        last.set(encoded);
+        return encoded.cbor();
+    }
+
+    public WeatherFrame decode(byte[] bytes) throws java.io.IOException {
+        return cbor.readValue(bytes, WeatherFrame.class);
+    }
+
+    /** CBOR bytes of {@code frame}; alert transitions are rare, so nothing is kept. */
+    public byte[] cbor(AlertFrame frame) {
+        try {
+            return cbor.writeValueAsBytes(frame);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("alert frame not encodable", e);
+        }
+    }
+
+    public AlertFrame decodeAlerts(byte[] bytes) throws java.io.IOException {
+        return cbor.readValue(bytes, AlertFrame.class);
+    }
+
+    private byte[] encode(WeatherSnapshot snapshot) {
+        try {
+            return cbor.writeValueAsBytes(WeatherFrame.of(snapshot, zone));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("weather frame not encodable", e);
+        }
+    }
+}
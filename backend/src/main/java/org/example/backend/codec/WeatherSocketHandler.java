@@ -0,0 +1,97 @@
+package org.example.backend.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.alert.AlertsChangedEvent;
+import org.example.backend.model.alert.AlertFrame;
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.example.backend.service.WeatherService;
+import org.example.backend.service.WeatherUpdatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binary variant of {@code /api/weather/stream}: one CBOR {@code WeatherFrame} per WebSocket message, and an
+ * {@code AlertFrame} whenever a refresh raises or clears alerts (SSE event {@code alert}).
+ */
+@Slf4j
+@Component
+public class WeatherSocketHandler extends BinaryWebSocketHandler {
+
+    private static final int SEND_TIME_LIMIT_MS = 5_000;
+    private static final int BUFFER_LIMIT_BYTES = 64 * 1024;
+
+    private final WeatherService service;
+    private final WeatherCodec codec;
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    public WeatherSocketHandler(WeatherService service, WeatherCodec codec) {
+        this.service = service;
+        this.codec = codec;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        var s = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, BUFFER_LIMIT_BYTES);
+        sessions.put(session.getId(), s);
+        var current = service.snapshot();
+        if (current != null) {
+            send(s, codec.cbor(current));
+        }
+        log.debug("WS client connected. total={}", sessions.size());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        sessions.remove(session.getId());
+    }
+
+    @EventListener
+    public void onWeatherUpdated(WeatherUpdatedEvent event) {
+        broadcast(event.snapshot());
+    }
+
+    @EventListener
+    public void onAlertsChanged(AlertsChangedEvent event) {
+        if (sessions.isEmpty() || event.transitions().isEmpty()) return;
+        fanOut(codec.cbor(AlertFrame.of(event.transitions())));
+    }
+
+    void broadcast(WeatherSnapshot snapshot) {
+        if (sessions.isEmpty()) return;
+        fanOut(codec.cbor(snapshot));
+    }
+
+    private void fanOut(byte[] frame) {
+        sessions.values().forEach(s -> send(s, frame));
+    }
+
+    private void send(WebSocketSession session, byte[] frame) {
+        try {
+            session.sendMessage(new BinaryMessage(ByteBuffer.wrap(frame)));
+        } catch (IOException | RuntimeException e) {
+            // includes SessionLimitExceededException for a client over the buffer/time limit, which leaves the
+            // socket open: close it so the tablet reconnects, and carry on so the others still get the update
+            sessions.remove(session.getId());
+            close(session);
+            log.debug("WS client dropped. total={}", sessions.size());
+        }
+    }
+
+    private static void close(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException | RuntimeException e) {
+            log.debug("WS close failed: {}", e.getMessage());
+        }
+    }
+}
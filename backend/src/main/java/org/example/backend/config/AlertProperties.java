@@ -0,0 +1,18 @@
+package org.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Weather alert rules, e.g. {@code hub.alerts.rules[0].when=today.precipProbMax >= 60}. {@code when} is
+ * {@code <today|tomorrow>.<metric> <op> <number>} over the {@code WeatherSnapshot.Day} fields; a rule with a
+ * {@code location} ({@code lat,lon}) only applies to the hub configured for that location.
+ */
+@ConfigurationProperties(prefix = "hub.alerts")
+public record AlertProperties(
+        @DefaultValue List<Rule> rules
+) {
+    public record Rule(String id, String when, String message, String location) {}
+}
@@ -0,0 +1,38 @@
+package org.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Load-time chime preprocessing. {@code sampleRate}/{@code channels} of 0 mean "ask the output line",
+ * falling back to 48 kHz stereo when the line does not report a concrete format. An empty {@code cacheDir}
+ * means {@code a-hub/chime-cache} under the user's persistent data directory ({@code %LOCALAPPDATA%},
+ * {@code $XDG_DATA_HOME} or {@code ~/.local/share}), so the cache survives the reboot it exists for.
+ */
+@ConfigurationProperties(prefix = "hub.chime")
+public record ChimeProperties(
+        @DefaultValue("true") boolean preprocess,
+        @DefaultValue("") String cacheDir,
+        @DefaultValue("0") int sampleRate,
+        @DefaultValue("0") int channels,
+        @DefaultValue("-50") double silenceThresholdDb,
+        @DefaultValue("-18") double targetRmsDb,
+        @DefaultValue("-1") double peakCeilingDb
+) {
+
+    public ChimeProperties {
+        if (cacheDir == null || cacheDir.isBlank()) {
+            cacheDir = dataHome().resolve("a-hub").resolve("chime-cache").toString();
+        }
+    }
+
+    private static Path dataHome() {
+        for (String env : new String[] { "LOCALAPPDATA", "XDG_DATA_HOME" }) {
+            String dir = System.getenv(env);
+            if (dir != null && !dir.isBlank()) return Path.of(dir);
+        }
+        return Path.of(System.getProperty("user.home"), ".local", "share");
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * LAN peer mode. Hubs talk over UDP multicast; {@code interfaceName} selects the NIC
+ * (e.g. {@code lo} to run several instances on one machine).
+ */
+@ConfigurationProperties(prefix = "hub.peer")
+public record PeerProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("239.255.42.99") String group,
+        @DefaultValue("45999") int port,
+        String interfaceName,
+        String nodeId,
+        @DefaultValue("2000") long heartbeatMs,
+        @DefaultValue("7000") long leaderTimeoutMs
+) {
+}
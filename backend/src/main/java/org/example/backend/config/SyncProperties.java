@@ -0,0 +1,31 @@
+package org.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Synchronized chime playback across peer hubs (needs {@code hub.peer.enabled}). {@code leadMs} is how far
+ * ahead of the press the shared start time is set; {@code clockSkewMs} offsets this hub's clock to test the
+ * offset estimation; {@code sink=file} records start times to {@code sinkFile} instead of playing.
+ */
+@ConfigurationProperties(prefix = "hub.sync")
+public record SyncProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("250") long leadMs,
+        @DefaultValue("1000") long pingMs,
+        @DefaultValue("8") int samples,
+        @DefaultValue("0") long clockSkewMs,
+        @DefaultValue("line") Sink sink,
+        @DefaultValue("") String sinkFile
+) {
+
+    public enum Sink { LINE, FILE }
+
+    public SyncProperties {
+        if (sinkFile == null || sinkFile.isBlank()) {
+            sinkFile = Path.of(System.getProperty("java.io.tmpdir"), "a-hub", "chime-sync.csv").toString();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * UDP doorbell trigger. {@code secret} is the shared HMAC key of the doorbell device;
+ * {@code maxSkewMs} bounds how far the device clock may be off before packets are rejected.
+ */
+@ConfigurationProperties(prefix = "hub.trigger.udp")
+public record TriggerProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.0.0.0") String bindAddress,
+        @DefaultValue("45990") int port,
+        String secret,
+        @DefaultValue("5000") long maxSkewMs
+) {
+}
@@ -0,0 +1,20 @@
+package org.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Visitor frames posted by the doorbell. The last {@code capacity} frames are kept in memory together with
+ * thumbnails {@code thumbnailWidth} pixels wide, scaled by {@code thumbnailWorkers} background threads.
+ * Frames above {@code maxFrameBytes} are refused on upload; frames declaring more than {@code maxFramePixels}
+ * are kept but get no thumbnail, so a small file cannot decode into an image that fills the heap.
+ */
+@ConfigurationProperties(prefix = "hub.visitors")
+public record VisitorProperties(
+        @DefaultValue("20") int capacity,
+        @DefaultValue("2097152") int maxFrameBytes,
+        @DefaultValue("320") int thumbnailWidth,
+        @DefaultValue("1") int thumbnailWorkers,
+        @DefaultValue("16777216") long maxFramePixels
+) {
+}
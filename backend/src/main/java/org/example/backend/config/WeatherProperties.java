@@ -0,0 +1,16 @@
+package org.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "hub.weather")
+public record WeatherProperties(
+        @DefaultValue("51.938") double latitude,
+        @DefaultValue("8.875") double longitude,
+        @DefaultValue("Europe/Berlin") String timezone
+) {
+    /** Key under which hubs on the LAN share forecasts for the same place. */
+    public String locationKey() {
+        return latitude + "," + longitude;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.codec.WeatherCborMessageConverter;
+import org.example.backend.codec.WeatherCodec;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<WeatherCodec> codec;
+
+    /**
+     * Placed after JSON, so JSON stays the default for {@code Accept: *}{@code /*}, but ahead of
+     * Spring's generic Jackson CBOR converter, which would write the verbose snapshot schema.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        codec.ifAvailable(c -> {
+            int i = 0;
+            while (i < converters.size()
+                    && !converters.get(i).getSupportedMediaTypes().contains(MediaType.APPLICATION_CBOR)) {
+                i++;
+            }
+            converters.add(i, new WeatherCborMessageConverter(c));
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.codec.WeatherSocketHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final WeatherSocketHandler weatherSocket;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(weatherSocket, "/api/weather/ws").setAllowedOriginPatterns("*");
+    }
+}
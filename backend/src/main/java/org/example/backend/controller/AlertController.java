@@ -0,0 +1,23 @@
+package org.example.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.alert.AlertService;
+import org.example.backend.model.alert.Alert;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/alerts")
+@RequiredArgsConstructor
+public class AlertController {
+
+    private final AlertService alerts;
+
+    @GetMapping
+    public List<Alert> active() {
+        return alerts.active();
+    }
+}
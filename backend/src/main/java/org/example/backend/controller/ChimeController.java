@@ -4,6 +4,7 @@ import org.example.backend.model.SoundSource;
 import org.example.backend.service.ChimeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -12,6 +13,7 @@ import java.util.Map;
 import java.util.Optional;
 
 @RestController
+@Lazy(false)
 @RequestMapping("/api/chime")
 public class ChimeController {
 
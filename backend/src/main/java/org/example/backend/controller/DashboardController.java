@@ -0,0 +1,30 @@
+package org.example.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.dashboard.DashboardView;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/** One-request bootstrap for a waking dashboard; answers 304 while nothing changed. */
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardView view;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> get() {
+        var current = view.current();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(current.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(current.json().length)
+                .body(current.json());
+    }
+}
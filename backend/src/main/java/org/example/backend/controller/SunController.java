@@ -0,0 +1,39 @@
+package org.example.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.sun.SunService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/sun")
+@RequiredArgsConstructor
+public class SunController {
+
+    static final int MAX_DAYS = 366;
+
+    private final SunService sun;
+
+    /** Sun times per day from {@code from} to {@code to} (inclusive); both default to today. */
+    @GetMapping
+    public ResponseEntity<?> range(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate start = from != null ? from : sun.today();
+        LocalDate end = to != null ? to : start;
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        if (days < 1 || days > MAX_DAYS) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "invalid_range", "maxDays", MAX_DAYS));
+        }
+        return ResponseEntity.ok(sun.range(start, end));
+    }
+}
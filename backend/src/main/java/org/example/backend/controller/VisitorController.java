@@ -0,0 +1,94 @@
+package org.example.backend.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.config.VisitorProperties;
+import org.example.backend.model.visitor.VisitorFrameInfo;
+import org.example.backend.visitor.VisitorFrames;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Visitor gallery. Frames and thumbnails never change once stored, so they are served with
+ * {@code immutable} caching and an ETag; the bytes go out in a single write straight from memory.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/visitors/frames")
+@RequiredArgsConstructor
+public class VisitorController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    private final VisitorFrames frames;
+    private final VisitorProperties props;
+
+    @PostMapping(consumes = MediaType.IMAGE_JPEG_VALUE)
+    public ResponseEntity<?> add(HttpServletRequest request) throws IOException {
+        // read at most one byte past the limit, so an oversized or chunked upload is refused without buffering it
+        byte[] jpeg = request.getContentLengthLong() > props.maxFrameBytes()
+                ? null
+                : request.getInputStream().readNBytes(props.maxFrameBytes() + 1);
+        if (jpeg == null || jpeg.length > props.maxFrameBytes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body(Map.of("error", "too_large", "maxBytes", props.maxFrameBytes()));
+        }
+        if (!VisitorFrames.isJpeg(jpeg)) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(Map.of("error", "not_jpeg"));
+        }
+        var frame = frames.add(jpeg);
+        log.info("Visitor frame stored (id: {}, {} bytes)", frame.key(), jpeg.length);
+        return ResponseEntity.created(URI.create("/api/visitors/frames/" + frame.key())).body(VisitorFrameInfo.of(frame));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<VisitorFrameInfo>> list() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(frames.recent().stream().map(VisitorFrameInfo::of).toList());
+    }
+
+    @GetMapping(path = "/{id}", produces = MediaType.IMAGE_JPEG_VALUE)
+    public ResponseEntity<byte[]> frame(@PathVariable String id) {
+        return frames.get(id)
+                .map(f -> immutable("f" + id, f.jpeg()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(path = "/{id}/thumbnail", produces = MediaType.IMAGE_JPEG_VALUE)
+    public ResponseEntity<byte[]> thumbnail(@PathVariable String id) {
+        var frame = frames.get(id);
+        if (frame.isEmpty() || frame.get().thumbnail().isCompletedExceptionally()) {
+            return ResponseEntity.notFound().build();
+        }
+        byte[] thumb = frame.get().thumbnailIfReady();
+        if (thumb == null) {
+            // still scaling: let the client retry rather than caching anything
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .cacheControl(CacheControl.noStore())
+                    .build();
+        }
+        return immutable("t" + id, thumb);
+    }
+
+    private static ResponseEntity<byte[]> immutable(String etag, byte[] jpeg) {
+        return ResponseEntity.ok()
+                .cacheControl(IMMUTABLE)
+                .eTag(etag)
+                .contentType(MediaType.IMAGE_JPEG)
+                .contentLength(jpeg.length)
+                .body(jpeg);
+    }
+
+}
@@ -0,0 +1,129 @@
+package org.example.backend.dashboard;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.alert.AlertsChangedEvent;
+import org.example.backend.model.SoundSource;
+import org.example.backend.model.alert.Alert;
+import org.example.backend.model.dashboard.Dashboard;
+import org.example.backend.model.visitor.VisitorFrameInfo;
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.example.backend.service.ChimeRungEvent;
+import org.example.backend.service.ChimeService;
+import org.example.backend.service.WeatherService;
+import org.example.backend.service.WeatherUpdatedEvent;
+import org.example.backend.visitor.VisitorFrame;
+import org.example.backend.visitor.VisitorFrameEvent;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The {@code /api/dashboard} document, kept serialized. Each weather, alert, chime or visitor event updates its
+ * part and marks the document stale; the next request re-renders it once and later ones hand out the same bytes.
+ * Event publishers, the chime trigger among them, never wait for serialization. Eager under lazy initialization,
+ * so the first ring's listener call does not construct the view on the chime thread.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@DependsOn("chimePreprocessor")
+public class DashboardView {
+
+    static final int MAX_RINGS = 10;
+
+    private final ObjectMapper mapper;
+    private final ChimeService chime;
+    private final WeatherService weather;
+
+    private final Deque<Dashboard.Ring> rings = new ArrayDeque<>();
+    private WeatherSnapshot snapshot;
+    private List<Alert> alerts = List.of();
+    private Dashboard.Chime chimeState = new Dashboard.Chime(null, false, null);
+    private VisitorFrame lastVisitor;
+
+    /** Bumped under the lock by every change. */
+    private volatile long version;
+    private volatile Cached cached;
+
+    /** Serialized dashboard and its ETag. */
+    public record Rendered(byte[] json, String etag) {}
+
+    private record Cached(long version, Rendered rendered) {}
+
+    public DashboardView(ObjectMapper mapper, ChimeService chime, WeatherService weather) {
+        this.mapper = mapper;
+        this.chime = chime;
+        this.weather = weather;
+    }
+
+    @PostConstruct
+    synchronized void init() {
+        snapshot = weather.snapshot();
+        String source = chime.resolveSource().map(SoundSource::classpath).orElse(null);
+        chimeState = new Dashboard.Chime(source, source != null && chime.prepared(source).isPresent(), null);
+        version++;
+    }
+
+    public Rendered current() {
+        var c = cached;
+        if (c != null && c.version() == version) return c.rendered();
+
+        long v;
+        Dashboard dashboard;
+        synchronized (this) {
+            v = version;
+            dashboard = new Dashboard(snapshot, alerts, chimeState, List.copyOf(rings),
+                    lastVisitor != null ? VisitorFrameInfo.of(lastVisitor) : null);
+        }
+        Rendered rendered;
+        try {
+            byte[] json = mapper.writeValueAsBytes(dashboard);
+            rendered = new Rendered(json, DigestUtils.md5DigestAsHex(json));
+        } catch (JsonProcessingException e) {
+            if (c == null) throw new IllegalStateException("dashboard not rendered", e);
+            log.error("dashboard not rendered, serving the previous one", e);
+            return c.rendered();
+        }
+        synchronized (this) {
+            if (cached == null || cached.version() < v) cached = new Cached(v, rendered);
+        }
+        return rendered;
+    }
+
+    @EventListener
+    public synchronized void onWeather(WeatherUpdatedEvent event) {
+        snapshot = event.snapshot();
+        version++;
+    }
+
+    @EventListener
+    public synchronized void onAlerts(AlertsChangedEvent event) {
+        alerts = event.active();
+        version++;
+    }
+
+    @EventListener
+    public synchronized void onRing(ChimeRungEvent event) {
+        rings.addFirst(new Dashboard.Ring(event.at(), event.source()));
+        while (rings.size() > MAX_RINGS) rings.removeLast();
+        chimeState = new Dashboard.Chime(event.source(),
+                chime.prepared(event.source()).isPresent(), event.at());
+        version++;
+    }
+
+    @EventListener
+    public synchronized void onVisitorFrame(VisitorFrameEvent event) {
+        if (lastVisitor != null && event.frame().id() < lastVisitor.id()) return;
+        lastVisitor = event.frame();
+        version++;
+    }
+}
@@ -0,0 +1,4 @@
+package org.example.backend.model.alert;
+
+/** A rule whose condition holds for the current snapshot. */
+public record Alert(String id, String when, String message) {}
@@ -0,0 +1,25 @@
+package org.example.backend.model.alert;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Alert transitions for binary clients of {@code /api/weather/ws} (CBOR). Its only top-level field is {@code a},
+ * where a {@code WeatherFrame} always carries {@code t}, so one check tells the two messages apart.
+ * <pre>
+ * id alert id   r raised (false: cleared)   m message   v value   t at, epoch seconds
+ * </pre>
+ */
+public record AlertFrame(List<Change> a) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Change(String id, boolean r, String m, Double v, long t) {}
+
+    public static AlertFrame of(List<AlertTransition> transitions) {
+        return new AlertFrame(transitions.stream()
+                .map(tr -> new Change(tr.alert().id(), tr.state() == AlertTransition.State.RAISED,
+                        tr.alert().message(), tr.value(), tr.at().toEpochSecond()))
+                .toList());
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.backend.model.alert;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Pushed as SSE event {@code alert}, and to WebSocket clients in an {@link AlertFrame}, when a rule starts or
+ * stops holding.
+ */
+public record AlertTransition(State state, Alert alert, Double value, OffsetDateTime at) {
+
+    public enum State { RAISED, CLEARED }
+}
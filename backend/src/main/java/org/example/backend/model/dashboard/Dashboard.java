@@ -0,0 +1,21 @@
+package org.example.backend.model.dashboard;
+
+import org.example.backend.model.alert.Alert;
+import org.example.backend.model.visitor.VisitorFrameInfo;
+import org.example.backend.model.weather.WeatherSnapshot;
+
+import java.time.Instant;
+import java.util.List;
+
+/** Everything a dashboard needs on wake-up, newest ring first. */
+public record Dashboard(
+        WeatherSnapshot weather,
+        List<Alert> alerts,
+        Chime chime,
+        List<Ring> rings,
+        VisitorFrameInfo lastVisitor
+) {
+    public record Chime(String source, boolean prepared, Instant lastRingAt) {}
+
+    public record Ring(Instant at, String source) {}
+}
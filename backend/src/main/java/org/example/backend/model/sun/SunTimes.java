@@ -0,0 +1,12 @@
+package org.example.backend.model.sun;
+
+import java.time.LocalDate;
+
+/** Local times in Open-Meteo's {@code yyyy-MM-ddTHH:mm} format; {@code null} on polar days and nights. */
+public record SunTimes(
+        LocalDate date,
+        String sunrise,
+        String sunset,
+        String civilDawn,
+        String civilDusk
+) {}
@@ -0,0 +1,21 @@
+package org.example.backend.model.visitor;
+
+import org.example.backend.visitor.VisitorFrame;
+
+import java.time.Instant;
+
+/** Gallery entry keyed by the frame's {@code key}; {@code thumbnail} stays {@code null} until it has been scaled. */
+public record VisitorFrameInfo(
+        String id,
+        Instant receivedAt,
+        int bytes,
+        String frame,
+        String thumbnail
+) {
+
+    public static VisitorFrameInfo of(VisitorFrame f) {
+        String frame = "/api/visitors/frames/" + f.key();
+        return new VisitorFrameInfo(f.key(), f.receivedAt(), f.jpeg().length, frame,
+                f.thumbnailIfReady() != null ? frame + "/thumbnail" : null);
+    }
+}
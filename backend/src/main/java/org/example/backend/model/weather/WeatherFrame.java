@@ -0,0 +1,36 @@
+package org.example.backend.model.weather;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Compact wire schema of {@link WeatherSnapshot} for binary clients (CBOR).
+ * Short field names, times as epoch seconds, absent values omitted.
+ * <pre>
+ * t  updatedAt      hi max   lo min   ps precipSum   c code
+ * pm precipProbMean px precipProbMax  sr sunrise     ss sunset
+ * </pre>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WeatherFrame(long t, Day d0, Day d1) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Day(Integer hi, Integer lo, Double ps, Integer c, Integer pm, Integer px, Long sr, Long ss) {}
+
+    /** {@code zone} is the forecast timezone, in which Open-Meteo reports sunrise/sunset as local times. */
+    public static WeatherFrame of(WeatherSnapshot s, ZoneId zone) {
+        return new WeatherFrame(s.updatedAt().toEpochSecond(), day(s.today(), zone), day(s.tomorrow(), zone));
+    }
+
+    private static Day day(WeatherSnapshot.Day d, ZoneId zone) {
+        if (d == null) return null;
+        return new Day(d.max(), d.min(), d.precipSum(), d.code(), d.precipProbMean(), d.precipProbMax(),
+                epochSeconds(d.sunrise(), zone), epochSeconds(d.sunset(), zone));
+    }
+
+    private static Long epochSeconds(String localTime, ZoneId zone) {
+        return localTime == null ? null : LocalDateTime.parse(localTime).atZone(zone).toEpochSecond();
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.backend.peer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.config.PeerProperties;
+import org.example.backend.config.WeatherProperties;
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * One weather fetcher per location on the LAN. Every hub sends a heartbeat for its location;
+ * the lowest live node id leads, fetches upstream and attaches its latest snapshot to its heartbeats.
+ * Followers skip their own fetch and fail over as soon as the leader goes quiet.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class MulticastWeatherPeers implements WeatherPeers {
+
+    private final PeerChannel channel;
+    private final ObjectMapper mapper;
+    private final ApplicationEventPublisher events;
+    private final String location;
+    private final PeerDirectory directory;
+
+    private final AtomicReference<WeatherSnapshot> lastPublished = new AtomicReference<>();
+    private volatile String following;
+
+    public MulticastWeatherPeers(PeerChannel channel,
+                                 PeerProperties props,
+                                 WeatherProperties weather,
+                                 ObjectMapper mapper,
+                                 ApplicationEventPublisher events) {
+        this.channel = channel;
+        this.mapper = mapper;
+        this.events = events;
+        this.location = weather.locationKey();
+        this.directory = new PeerDirectory(props.leaderTimeoutMs());
+        channel.subscribe(PeerChannel.WEATHER, this::onDatagram);
+    }
+
+    @Override
+    public boolean deferToLeader() {
+        return channel.enabled() && !isLeader(leader());
+    }
+
+    @Override
+    public void publish(WeatherSnapshot snapshot) {
+        if (!channel.enabled()) return;
+        lastPublished.set(snapshot);
+        send(snapshot);
+    }
+
+    @Scheduled(fixedDelayString = "${hub.peer.heartbeat-ms:2000}")
+    public void heartbeat() {
+        if (!channel.enabled()) return;
+        String leader = leader();
+        boolean leading = isLeader(leader);
+        send(leading ? lastPublished.get() : null);
+
+        String previous = following;
+        following = leading ? null : leader;
+        if (previous != null && leading) {
+            log.info("weather leader {} went quiet, fetching locally", previous);
+            events.publishEvent(new PeerLeaderLostEvent(previous));
+        } else if (!leading && !leader.equals(previous)) {
+            log.info("weather leader for {} is {}", location, leader);
+        }
+    }
+
+    private void onDatagram(PeerChannel.Datagram datagram) {
+        WeatherPeerMessage msg;
+        try {
+            msg = mapper.readValue(datagram.payload(), WeatherPeerMessage.class);
+        } catch (IOException e) {
+            log.debug("undecodable weather peer message from {}", datagram.from());
+            return;
+        }
+        if (msg.node().equals(channel.nodeId()) || !location.equals(msg.location())) return;
+        directory.seen(msg.node(), System.currentTimeMillis());
+        if (msg.snapshot() != null) {
+            events.publishEvent(new PeerSnapshotEvent(msg.snapshot()));
+        }
+    }
+
+    private void send(WeatherSnapshot snapshot) {
+        try {
+            var msg = new WeatherPeerMessage(channel.nodeId(), location, snapshot);
+            channel.send(PeerChannel.WEATHER, mapper.writeValueAsBytes(msg));
+        } catch (IOException e) {
+            log.debug("weather peer message not sent: {}", e.getMessage());
+        }
+    }
+
+    private String leader() {
+        return directory.leader(channel.nodeId(), System.currentTimeMillis());
+    }
+
+    private boolean isLeader(String leader) {
+        return leader.equals(channel.nodeId());
+    }
+}
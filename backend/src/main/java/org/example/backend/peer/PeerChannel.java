@@ -0,0 +1,178 @@
+package org.example.backend.peer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.config.PeerProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * UDP multicast transport shared by all peer features. Every datagram is
+ * {@code [MAGIC][kind][payload]}; handlers subscribe per kind. Inert unless {@code hub.peer.enabled=true}.
+ * CLOCK and CHIME handlers run on the receive thread and must stay quick; other kinds go to one worker thread,
+ * since a weather snapshot sets off the whole client fan-out and must not hold up a PLAY_AT or clock reply.
+ */
+@Slf4j
+@Component
+public class PeerChannel {
+
+    public static final byte WEATHER = 1;
+    public static final byte CLOCK = 2;
+    public static final byte CHIME = 3;
+
+    private static final byte MAGIC = (byte) 0xA7;
+    private static final int MAX_DATAGRAM = 8 * 1024;
+    private static final int DISPATCH_QUEUE = 16;
+
+    private final PeerProperties props;
+    private final String nodeId;
+    private final Map<Byte, Consumer<Datagram>> handlers = new ConcurrentHashMap<>();
+
+    private volatile DatagramChannel channel;
+    private ExecutorService dispatcher;
+    private InetSocketAddress groupAddress;
+
+    public record Datagram(byte[] payload, InetSocketAddress from) {}
+
+    public PeerChannel(PeerProperties props) {
+        this.props = props;
+        this.nodeId = (props.nodeId() == null || props.nodeId().isBlank())
+                ? UUID.randomUUID().toString()
+                : props.nodeId();
+    }
+
+    public boolean enabled() {
+        return props.enabled();
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public void subscribe(byte kind, Consumer<Datagram> handler) {
+        handlers.put(kind, handler);
+    }
+
+    public void send(byte kind, byte[] payload) {
+        var ch = channel;
+        if (ch == null) return;
+        var buf = ByteBuffer.allocate(payload.length + 2).put(MAGIC).put(kind).put(payload).flip();
+        try {
+            ch.send(buf, groupAddress);
+        } catch (IOException e) {
+            log.debug("peer send failed: {}", e.getMessage());
+        }
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        if (!props.enabled()) return;
+        InetAddress group = InetAddress.getByName(props.group());
+        NetworkInterface nif = resolveInterface();
+        groupAddress = new InetSocketAddress(group, props.port());
+
+        var ch = DatagramChannel.open(StandardProtocolFamily.INET)
+                .setOption(StandardSocketOptions.SO_REUSEADDR, true)
+                .bind(new InetSocketAddress(props.port()))
+                .setOption(StandardSocketOptions.IP_MULTICAST_IF, nif)
+                .setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+        ch.join(group, nif);
+        channel = ch;
+
+        // bounded: when the fan-out falls behind, the oldest queued weather datagram is the one to lose
+        dispatcher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(DISPATCH_QUEUE), r -> {
+                    Thread t = new Thread(r, "peer-dispatch");
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.DiscardOldestPolicy());
+
+        Thread rx = new Thread(() -> receiveLoop(ch), "peer-rx");
+        rx.setDaemon(true);
+        rx.start();
+        log.info("peer mode on: node={}, group={}:{}, interface={}", nodeId, props.group(), props.port(), nif.getName());
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        var ch = channel;
+        channel = null;
+        if (ch != null) ch.close();
+        if (dispatcher != null) dispatcher.shutdownNow();
+    }
+
+    private void receiveLoop(DatagramChannel ch) {
+        ByteBuffer buf = ByteBuffer.allocate(MAX_DATAGRAM);
+        while (ch.isOpen()) {
+            try {
+                buf.clear();
+                var from = (InetSocketAddress) ch.receive(buf);
+                buf.flip();
+                if (buf.remaining() < 2 || buf.get() != MAGIC) continue;
+                byte kind = buf.get();
+                var handler = handlers.get(kind);
+                if (handler == null) continue;
+                byte[] payload = new byte[buf.remaining()];
+                buf.get(payload);
+                var datagram = new Datagram(payload, from);
+                if (kind == CLOCK || kind == CHIME) {
+                    handler.accept(datagram);
+                } else {
+                    dispatcher.execute(() -> dispatch(handler, datagram));
+                }
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.debug("peer datagram dropped: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static void dispatch(Consumer<Datagram> handler, Datagram datagram) {
+        try {
+            handler.accept(datagram);
+        } catch (RuntimeException e) {
+            log.debug("peer datagram dropped: {}", e.getMessage());
+        }
+    }
+
+    private NetworkInterface resolveInterface() throws SocketException {
+        if (props.interfaceName() != null && !props.interfaceName().isBlank()) {
+            var nif = NetworkInterface.getByName(props.interfaceName());
+            if (nif == null) throw new SocketException("unknown interface: " + props.interfaceName());
+            return nif;
+        }
+        return NetworkInterface.networkInterfaces()
+                .filter(PeerChannel::usableForMulticast)
+                .findFirst()
+                .orElseThrow(() -> new SocketException("no multicast-capable interface found"));
+    }
+
+    private static boolean usableForMulticast(NetworkInterface nif) {
+        try {
+            return nif.isUp() && nif.supportsMulticast() && !nif.isLoopback()
+                    && nif.inetAddresses().anyMatch(a -> a.getAddress().length == 4);
+        } catch (SocketException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.backend.peer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Peers heard recently for one location. The leader is the lowest node id among the live peers and ourselves.
+ */
+final class PeerDirectory {
+
+    private final long timeoutMs;
+    private final Map<String, Long> lastSeen = new ConcurrentHashMap<>();
+
+    PeerDirectory(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    void seen(String nodeId, long nowMs) {
+        lastSeen.put(nodeId, nowMs);
+    }
+
+    String leader(String self, long nowMs) {
+        lastSeen.values().removeIf(t -> nowMs - t > timeoutMs);
+        String leader = self;
+        for (String node : lastSeen.keySet()) {
+            if (node.compareTo(leader) < 0) leader = node;
+        }
+        return leader;
+    }
+}
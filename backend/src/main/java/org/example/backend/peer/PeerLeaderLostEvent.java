@@ -0,0 +1,5 @@
+package org.example.backend.peer;
+
+/** The hub we deferred to stopped sending heartbeats; we lead now and should fetch ourselves. */
+public record PeerLeaderLostEvent(String previousLeader) {
+}
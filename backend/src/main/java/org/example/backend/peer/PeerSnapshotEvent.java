@@ -0,0 +1,7 @@
+package org.example.backend.peer;
+
+import org.example.backend.model.weather.WeatherSnapshot;
+
+/** A snapshot for our location arrived from another hub. */
+public record PeerSnapshotEvent(WeatherSnapshot snapshot) {
+}
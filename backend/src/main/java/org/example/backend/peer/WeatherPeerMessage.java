@@ -0,0 +1,7 @@
+package org.example.backend.peer;
+
+import org.example.backend.model.weather.WeatherSnapshot;
+
+/** Heartbeat of a hub for one location; the leader attaches its latest snapshot. */
+record WeatherPeerMessage(String node, String location, WeatherSnapshot snapshot) {
+}
@@ -0,0 +1,13 @@
+package org.example.backend.peer;
+
+import org.example.backend.model.weather.WeatherSnapshot;
+
+public interface WeatherPeers {
+
+    /** True while another hub leads our location; the caller then skips its own upstream fetch. */
+    boolean deferToLeader();
+
+    /** Shares a freshly fetched snapshot with the other hubs of our location. */
+    void publish(WeatherSnapshot snapshot);
+
+}
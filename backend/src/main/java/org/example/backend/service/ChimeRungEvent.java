@@ -0,0 +1,6 @@
+package org.example.backend.service;
+
+import java.time.Instant;
+
+/** Published by {@link ChimeService} after a press has been dispatched. */
+public record ChimeRungEvent(Instant at, String source) {}
@@ -0,0 +1,10 @@
+package org.example.backend.service;
+
+import org.example.backend.model.SoundSource;
+
+/** Takes over chime presses instead of playing them locally right away (see {@code SyncedChime}). */
+public interface ChimeScheduler {
+
+    /** @return {@code false} to let {@link ChimeService} play the press itself */
+    boolean schedule(SoundSource src);
+}
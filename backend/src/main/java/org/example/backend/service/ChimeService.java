@@ -1,22 +1,36 @@
 package org.example.backend.service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import javazoom.jl.decoder.JavaLayerException;
 import javazoom.jl.player.Player;
+import org.example.backend.audio.PreparedChime;
 import org.example.backend.model.SoundSource;
+import org.example.backend.startup.StartupTimeline;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
 import javax.sound.sampled.*;
 import java.io.BufferedInputStream;
 import java.io.InputStream;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
 
 @Service
-public class ChimeService {
+@Lazy(false)
+public class ChimeService implements ApplicationEventPublisherAware {
 
     private static final Logger log = LoggerFactory.getLogger(ChimeService.class);
 
@@ -24,6 +38,36 @@ public class ChimeService {
     private static final String MP3_NAME  = "doorbell.mp3";
     private static final String WAV_NAME  = "doorbell.wav";
 
+    private final Map<String, PreparedChime> prepared = new ConcurrentHashMap<>();
+    private final Map<String, Clip> openClips = new ConcurrentHashMap<>();
+    private volatile ChimeScheduler scheduler;
+    private ApplicationEventPublisher events;
+    private ThreadFactory players = Thread.ofPlatform().daemon().name("chime-player").factory();
+
+    /** Plays on virtual threads when {@code spring.threads.virtual.enabled} is set. */
+    @Autowired
+    void setVirtualThreads(@Value("${spring.threads.virtual.enabled:false}") boolean virtual) {
+        players = (virtual ? Thread.ofVirtual() : Thread.ofPlatform().daemon()).name("chime-player").factory();
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher events) {
+        this.events = events;
+    }
+
+    /**
+     * Loads the sound system and resolves the chime once during startup, so the first press does not pay
+     * for it. Stays eager even when {@code spring.main.lazy-initialization} is on.
+     */
+    @PostConstruct
+    void warmUp() {
+        AudioSystem.getMixerInfo();
+        resolveSource().ifPresentOrElse(
+                src -> log.debug("Chime ready: {}", src.classpath()),
+                () -> log.warn("No chime source found in classpath: {}", candidates()));
+        StartupTimeline.markOnce(StartupTimeline.CHIME_READY);
+    }
+
     public Optional<SoundSource> resolveSource() {
         String mp3 = SOUND_DIR + MP3_NAME;
         if (existsOnClasspath(mp3)) {
@@ -40,15 +84,71 @@ public class ChimeService {
         return List.of(SOUND_DIR + MP3_NAME, SOUND_DIR + WAV_NAME);
     }
 
+    /**
+     * Plays {@code pcm} instead of decoding {@code classpath} on every press (see ChimePreprocessor). A clip holding
+     * it is opened right away, so a press only rewinds and starts it.
+     */
+    public void usePrepared(String classpath, PreparedChime pcm) {
+        prepared.put(classpath, pcm);
+        Clip clip = openClip(pcm);
+        Clip previous = clip != null ? openClips.put(classpath, clip) : openClips.remove(classpath);
+        if (previous != null) previous.close();
+    }
+
+    @PreDestroy
+    void closeClips() {
+        openClips.values().forEach(Line::close);
+        openClips.clear();
+    }
+
+    public Optional<PreparedChime> prepared(String classpath) {
+        return Optional.ofNullable(prepared.get(classpath));
+    }
+
+    public void useScheduler(ChimeScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Dispatches a press: hands it to the sync scheduler, or starts the pre-opened clip of a prepared chime on the
+     * calling thread, or else (no clip, or the clip still playing the previous press) starts a player thread that
+     * opens its own line. Returns once the sound has been started or handed over.
+     */
     public void playAsync(SoundSource src) {
-        Thread t = new Thread(() -> runPlayback(src), "chime-player");
-        t.setDaemon(true);
-        t.start();
+        var s = scheduler;
+        if ((s == null || !s.schedule(src)) && !startOpenClip(src.classpath())) {
+            players.newThread(() -> runPlayback(src)).start();
+        }
+        var publisher = events;
+        if (publisher != null) {
+            // listeners only record the ring; one that fails must not fail a press that is already playing
+            try {
+                publisher.publishEvent(new ChimeRungEvent(Instant.now(), src.classpath()));
+            } catch (RuntimeException e) {
+                log.warn("ChimeRungEvent listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private boolean startOpenClip(String classpath) {
+        Clip clip = openClips.get(classpath);
+        if (clip == null) return false;
+        synchronized (clip) {
+            if (clip.isRunning()) return false;
+            clip.setFramePosition(0);
+            clip.start();
+        }
+        markFirstChime();
+        return true;
     }
 
     void runPlayback(SoundSource src) {
+        markFirstChime();
         try {
-            if (src.mp3()) {
+            PreparedChime pcm = prepared.get(src.classpath());
+            if (pcm != null) {
+                playPrepared(pcm);
+            } else if (src.mp3()) {
                 playMp3FromClasspath(src.classpath());
             } else {
                 playWavFromClasspath(src.classpath());
@@ -65,6 +165,12 @@ public class ChimeService {
         }
     }
 
+    private static void markFirstChime() {
+        if (StartupTimeline.markOnce(StartupTimeline.FIRST_CHIME)) {
+            log.info("time-to-first-chime: {} ms after JVM launch", StartupTimeline.get(StartupTimeline.FIRST_CHIME));
+        }
+    }
+
     /* ---------------- WAV (Java Sound) ---------------- */
 
     private void playWavFromClasspath(String cpPath)
@@ -73,11 +179,33 @@ public class ChimeService {
         ClassPathResource res = new ClassPathResource(cpPath);
         try (InputStream in = res.getInputStream();
              AudioInputStream ais = AudioSystem.getAudioInputStream(in)) {
-            playClip(ais);
+            playClip(clip -> clip.open(ais));
+        }
+    }
+
+    /* ---------------- Prepared PCM (already in output format) ---------------- */
+
+    private void playPrepared(PreparedChime pcm)
+            throws LineUnavailableException, java.io.IOException, InterruptedException {
+        playClip(clip -> clip.open(pcm.format(), pcm.pcm(), 0, pcm.pcm().length));
+    }
+
+    private static Clip openClip(PreparedChime pcm) {
+        try {
+            Clip clip = AudioSystem.getClip();
+            clip.open(pcm.format(), pcm.pcm(), 0, pcm.pcm().length);
+            return clip;
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            log.debug("no pre-opened clip for the prepared chime, opening one per press: {}", e.getMessage());
+            return null;
         }
     }
 
-    private void playClip(AudioInputStream ais)
+    private interface ClipOpener {
+        void open(Clip clip) throws LineUnavailableException, java.io.IOException;
+    }
+
+    private void playClip(ClipOpener opener)
             throws LineUnavailableException, java.io.IOException, InterruptedException {
         Clip clip = AudioSystem.getClip();
         CountDownLatch done = new CountDownLatch(1);
@@ -87,7 +215,7 @@ public class ChimeService {
                     done.countDown();
                 }
             });
-            clip.open(ais);
+            opener.open(clip);
             clip.start();
             done.await();
         } finally {
@@ -1,39 +1,72 @@
 package org.example.backend.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.client.openmeteo.OpenMeteoClient;
+import org.example.backend.config.WeatherProperties;
 import org.example.backend.model.weather.OpenMeteoDto;
 import org.example.backend.model.weather.WeatherSnapshot;
+import org.example.backend.peer.PeerLeaderLostEvent;
+import org.example.backend.peer.PeerSnapshotEvent;
+import org.example.backend.peer.WeatherPeers;
+import org.example.backend.sun.SunService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
+@Lazy(false)
 @RequiredArgsConstructor
 public class WeatherService {
 
-    // --- Hardcoded Settings (später konfigurierbar) ---
-    private static final double LAT = 51.938;
-    private static final double LON = 8.875;
-    private static final String TIMEZONE = "Europe/Berlin";
     private static final int REFRESH_MINUTES = 60;
     private static final long REFRESH_DELAY_MS = REFRESH_MINUTES * 60_000L;
+    private static final WeatherSnapshot.Day EMPTY_DAY =
+            new WeatherSnapshot.Day(null, null, null, null, null, null, null, null);
 
     private final WeatherStreamBroadcaster broadcaster;
     private final OpenMeteoClient meteo;
+    private final WeatherProperties props;
+    private final WeatherPeers peers;
+    private final ApplicationEventPublisher events;
+    private final SunService sun;
 
     private final AtomicReference<WeatherSnapshot> cache = new AtomicReference<>();
+    private final AtomicReference<SunOnly> sunOnly = new AtomicReference<>();
+    private final AtomicBoolean failoverPending = new AtomicBoolean();
+    private final ExecutorService failover = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "weather-failover");
+        t.setDaemon(true);
+        return t;
+    });
 
-    public WeatherSnapshot snapshot() { return cache.get(); }
+    private record SunOnly(LocalDate date, WeatherSnapshot snapshot) {}
 
-    @Scheduled(initialDelay = 5_000, fixedDelay = REFRESH_DELAY_MS)
+    /** The latest weather, or sun times alone until the first fetch succeeds (e.g. while the upstream is down). */
+    public WeatherSnapshot snapshot() {
+        var snap = cache.get();
+        return snap != null ? snap : sunOnly();
+    }
+
+    @Scheduled(initialDelayString = "${hub.weather.initial-delay-ms:5000}", fixedDelay = REFRESH_DELAY_MS)
     public void refresh() {
+        if (peers.deferToLeader()) {
+            log.debug("weather refresh skipped, leader hub fetches for us");
+            return;
+        }
         try {
-            OpenMeteoDto data = meteo.fetchDailySummary(LAT, LON, TIMEZONE, 2);
+            OpenMeteoDto data = meteo.fetchDailySummary(props.latitude(), props.longitude(), props.timezone(), 2);
             if (data == null || data.daily() == null) return;
 
             var d = data.daily();
@@ -48,6 +81,7 @@ public class WeatherService {
                     getAt(d.sunrise(), 0),
                     getAt(d.sunset(), 0)
             );
+            today = withSunTimes(today, dateAt(d, 0));
 
             var tomorrow = new WeatherSnapshot.Day(
                     getAt(d.temperature_2m_max(), 1),
@@ -59,10 +93,12 @@ public class WeatherService {
                     getAt(d.sunrise(), 1),
                     getAt(d.sunset(), 1)
             );
+            tomorrow = withSunTimes(tomorrow, dateAt(d, 1));
 
             var snap = new WeatherSnapshot(OffsetDateTime.now(), today, tomorrow);
-            cache.set(snap);
-            broadcaster.broadcast(snap);
+            // followers first, so a failing local listener cannot leave them on stale weather
+            peers.publish(snap);
+            store(snap);
             log.debug("weather refreshed (daily summary): today.max={}, tomorrow.max={}",
                     today.max(), tomorrow.max());
         } catch (Exception ex) {
@@ -70,6 +106,68 @@ public class WeatherService {
         }
     }
 
+    @EventListener
+    public void onPeerSnapshot(PeerSnapshotEvent event) {
+        if (store(event.snapshot())) {
+            log.debug("weather snapshot received from leader hub: {}", event.snapshot().updatedAt());
+        }
+    }
+
+    /**
+     * Runs the failover fetch on its own thread: the event comes from the peer heartbeat, which must keep beating
+     * while the upstream call takes its time, or the other followers would count this hub as quiet too.
+     */
+    @EventListener
+    public void onLeaderLost(PeerLeaderLostEvent event) {
+        if (!failoverPending.compareAndSet(false, true)) return;
+        failover.execute(() -> {
+            failoverPending.set(false);
+            refresh();
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        failover.shutdownNow();
+    }
+
+    /** Caches and broadcasts {@code snap} unless a snapshot at least as recent is already cached. */
+    private boolean store(WeatherSnapshot snap) {
+        WeatherSnapshot prev;
+        do {
+            prev = cache.get();
+            if (prev != null && !snap.updatedAt().isAfter(prev.updatedAt())) return false;
+        } while (!cache.compareAndSet(prev, snap));
+        broadcaster.broadcast(snap);
+        events.publishEvent(new WeatherUpdatedEvent(snap));
+        return true;
+    }
+
+    private WeatherSnapshot sunOnly() {
+        LocalDate today = sun.today();
+        var current = sunOnly.get();
+        if (current != null && current.date().equals(today)) return current.snapshot();
+        var snap = new WeatherSnapshot(OffsetDateTime.now(),
+                withSunTimes(EMPTY_DAY, today), withSunTimes(EMPTY_DAY, today.plusDays(1)));
+        sunOnly.set(new SunOnly(today, snap));
+        return snap;
+    }
+
+    /** Fills sunrise/sunset the upstream left out with the locally computed times. */
+    private WeatherSnapshot.Day withSunTimes(WeatherSnapshot.Day day, LocalDate date) {
+        if (day.sunrise() != null && day.sunset() != null) return day;
+        var times = sun.day(date);
+        return new WeatherSnapshot.Day(day.max(), day.min(), day.precipSum(), day.code(),
+                day.precipProbMean(), day.precipProbMax(),
+                day.sunrise() != null ? day.sunrise() : times.sunrise(),
+                day.sunset() != null ? day.sunset() : times.sunset());
+    }
+
+    private LocalDate dateAt(OpenMeteoDto.Daily d, int i) {
+        String date = getAt(d.time(), i);
+        return date != null ? LocalDate.parse(date) : sun.today().plusDays(i);
+    }
+
     private static <T> T getAt(java.util.List<T> list, int i) {
         return (list != null && list.size() > i) ? list.get(i) : null;
     }
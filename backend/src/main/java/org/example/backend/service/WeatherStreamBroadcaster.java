@@ -1,6 +1,7 @@
 package org.example.backend.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.backend.model.alert.AlertTransition;
 import org.example.backend.model.weather.WeatherSnapshot;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -27,9 +28,17 @@ public class WeatherStreamBroadcaster {
     }
 
     public void broadcast(WeatherSnapshot snapshot) {
+        send("weather", snapshot);
+    }
+
+    public void broadcastAlert(AlertTransition transition) {
+        send("alert", transition);
+    }
+
+    private void send(String name, Object data) {
         for (var client : clients) {
             try {
-                client.send(SseEmitter.event().name("weather").data(snapshot));
+                client.send(SseEmitter.event().name(name).data(data));
             } catch (IOException e) {
                 clients.remove(client);
                 log.debug("SSE client dropped. total={}", clients.size());
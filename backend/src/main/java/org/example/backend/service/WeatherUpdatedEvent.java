@@ -0,0 +1,7 @@
+package org.example.backend.service;
+
+import org.example.backend.model.weather.WeatherSnapshot;
+
+/** Published whenever {@link WeatherService} caches a new snapshot. */
+public record WeatherUpdatedEvent(WeatherSnapshot snapshot) {
+}
@@ -0,0 +1,31 @@
+package org.example.backend.startup;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatVirtualThreadsWebServerFactoryCustomizer;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Under AOT ({@code -Dspring.aot.enabled=true}) Boot decides Tomcat's and the task scheduler's threading when the
+ * build runs, while ChimeService and OpenMeteoRestClient read {@code spring.threads.virtual.enabled} at startup.
+ * Refuses to start when the two disagree, instead of running half on virtual threads.
+ */
+@Component
+@Lazy(false)
+public class AotThreadingGuard {
+
+    public AotThreadingGuard(Environment env, ObjectProvider<TomcatVirtualThreadsWebServerFactoryCustomizer> tomcat) {
+        if (!AotDetector.useGeneratedArtifacts()) return;
+        check(Threading.VIRTUAL.isActive(env), tomcat.getIfAvailable() != null);
+    }
+
+    static void check(boolean requested, boolean built) {
+        if (requested == built) return;
+        throw new IllegalStateException("spring.threads.virtual.enabled=" + requested
+                + " but the AOT build was processed with " + (built ? "virtual" : "platform")
+                + " threads; build and run with the same profiles (scripts/fast-startup.sh, HUB_PROFILES)");
+    }
+}
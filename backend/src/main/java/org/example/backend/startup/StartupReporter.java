@@ -0,0 +1,99 @@
+package org.example.backend.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+
+@Slf4j
+@Component
+public class StartupReporter {
+
+    private static final int SLOWEST_BEANS = 10;
+
+    private final String reportFile;
+
+    public StartupReporter(@Value("${hub.startup.report-file:}") String reportFile) {
+        this.reportFile = reportFile;
+    }
+
+    @EventListener
+    public void onRefreshed(ContextRefreshedEvent event) {
+        StartupTimeline.markOnce(StartupTimeline.CONTEXT_REFRESHED);
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        StartupTimeline.markOnce(StartupTimeline.READY);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("marksMs", StartupTimeline.snapshot());
+        report.put("phasesMs", phases());
+        if (event.getApplicationContext() instanceof AbstractApplicationContext ctx
+                && ctx.getApplicationStartup() instanceof BufferingApplicationStartup buffering) {
+            report.put("slowestBeansMs", slowestBeans(buffering));
+        }
+        log.info("startup timing: {}", report);
+        writeReport(report);
+    }
+
+    static Map<String, Long> phases() {
+        Map<String, Long> marks = StartupTimeline.snapshot();
+        Map<String, Long> phases = new LinkedHashMap<>();
+        long previous = 0;
+        String previousName = "jvm";
+        for (var e : marks.entrySet()) {
+            if (e.getKey().equals(StartupTimeline.FIRST_CHIME)) continue;
+            phases.put(previousName + "->" + e.getKey(), e.getValue() - previous);
+            previous = e.getValue();
+            previousName = e.getKey();
+        }
+        return phases;
+    }
+
+    private static Map<String, Long> slowestBeans(BufferingApplicationStartup buffering) {
+        List<TimelineEvent> events = buffering.getBufferedTimeline().getEvents();
+        Map<String, Long> slowest = new LinkedHashMap<>();
+        events.stream()
+                .filter(e -> e.getStartupStep().getName().equals("spring.beans.instantiate"))
+                .sorted(Comparator.comparing(TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_BEANS)
+                .forEach(e -> slowest.put(beanName(e.getStartupStep()), e.getDuration().toMillis()));
+        return slowest;
+    }
+
+    private static String beanName(StartupStep step) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .filter(t -> t.getKey().equals("beanName"))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse("?");
+    }
+
+    private void writeReport(Map<String, Object> report) {
+        if (reportFile.isBlank()) return;
+        try {
+            Path file = Path.of(reportFile);
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+        } catch (IOException e) {
+            log.warn("could not write startup report to {}: {}", reportFile, e.getMessage());
+        }
+    }
+}
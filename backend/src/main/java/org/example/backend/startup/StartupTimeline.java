@@ -0,0 +1,45 @@
+package org.example.backend.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide startup milestones, in milliseconds since JVM launch.
+ * Static on purpose: the first marks are taken before any Spring context exists.
+ */
+public final class StartupTimeline {
+
+    public static final String MAIN = "main";
+    public static final String CONTEXT_REFRESHED = "contextRefreshed";
+    public static final String CHIME_READY = "chimeReady";
+    public static final String CHIME_PREPARED = "chimePrepared";
+    public static final String READY = "ready";
+    public static final String FIRST_CHIME = "firstChime";
+
+    private static final Map<String, Long> MARKS = new LinkedHashMap<>();
+
+    private StartupTimeline() {
+    }
+
+    /** Records {@code name} unless it was recorded before; returns true on the first call. */
+    public static synchronized boolean markOnce(String name) {
+        return MARKS.putIfAbsent(name, sinceJvmStart()) == null;
+    }
+
+    public static synchronized Long get(String name) {
+        return MARKS.get(name);
+    }
+
+    public static synchronized Map<String, Long> snapshot() {
+        return new LinkedHashMap<>(MARKS);
+    }
+
+    static synchronized void reset() {
+        MARKS.clear();
+    }
+
+    static long sinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+}
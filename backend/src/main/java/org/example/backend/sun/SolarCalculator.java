@@ -0,0 +1,101 @@
+package org.example.backend.sun;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Sunrise, sunset and twilight after the NOAA solar calculator (Meeus' low-precision solar position),
+ * good to about a minute outside the polar circles. Times are minutes after local midnight of the date.
+ */
+public final class SolarCalculator {
+
+    /** Returned when the sun does not cross the zenith on that day (polar day or night). */
+    public static final int NONE = Integer.MIN_VALUE;
+
+    /** Upper limb on the horizon, including refraction. */
+    public static final double SUNRISE_ZENITH = 90.833;
+    /** Sun 6° below the horizon. */
+    public static final double CIVIL_ZENITH = 96.0;
+
+    private static final int ITERATIONS = 2;
+
+    private SolarCalculator() {}
+
+    /** Local minutes after midnight at which the sun crosses {@code zenith} rising (or setting) on {@code date}. */
+    public static int localMinutes(LocalDate date, double latitude, double longitude, ZoneId zone,
+                                   double zenith, boolean rising) {
+        LocalDate utcDate = date;
+        for (int attempt = 0; attempt < 3; attempt++) {
+            double utc = utcMinutes(utcDate, latitude, longitude, zenith, rising);
+            if (Double.isNaN(utc)) return NONE;
+            LocalDateTime local = utcDate.atStartOfDay(ZoneOffset.UTC)
+                    .plusSeconds(Math.round(utc * 60))
+                    .withZoneSameInstant(zone)
+                    .toLocalDateTime();
+            int shift = local.toLocalDate().compareTo(date);
+            if (shift == 0 || attempt == 2) {
+                return (int) ChronoUnit.MINUTES.between(date.atStartOfDay(), local.truncatedTo(ChronoUnit.MINUTES));
+            }
+            // the event fell on the neighbouring local day; take the one of the adjacent UTC day instead
+            utcDate = utcDate.minusDays(Integer.signum(shift));
+        }
+        return NONE;
+    }
+
+    /** Minutes after 00:00 UTC of {@code date}, or NaN when the sun stays above/below {@code zenith}. */
+    static double utcMinutes(LocalDate date, double latitude, double longitude, double zenith, boolean rising) {
+        double jd0 = date.toEpochDay() + 2440587.5;
+        // start at solar noon, then re-evaluate the sun's position at the estimated event time
+        double minutes = 720 - 4 * longitude;
+        for (int i = 0; i < ITERATIONS; i++) {
+            double t = (jd0 + minutes / 1440.0 - 2451545.0) / 36525.0;
+            double[] sun = position(t);
+            double declination = sun[0];
+            double equationOfTime = sun[1];
+            double ha = hourAngle(latitude, declination, zenith);
+            if (Double.isNaN(ha)) return Double.NaN;
+            minutes = 720 - 4 * (longitude + (rising ? ha : -ha)) - equationOfTime;
+        }
+        return minutes;
+    }
+
+    /** {declination in radians, equation of time in minutes} at Julian century {@code t}. */
+    private static double[] position(double t) {
+        double l0 = Math.toRadians(mod360(280.46646 + t * (36000.76983 + t * 0.0003032)));
+        double m = Math.toRadians(357.52911 + t * (35999.05029 - 0.0001537 * t));
+        double e = 0.016708634 - t * (0.000042037 + 0.0000001267 * t);
+        double center = Math.sin(m) * (1.914602 - t * (0.004817 + 0.000014 * t))
+                + Math.sin(2 * m) * (0.019993 - 0.000101 * t)
+                + Math.sin(3 * m) * 0.000289;
+        double omega = Math.toRadians(125.04 - 1934.136 * t);
+        double lambda = Math.toRadians(Math.toDegrees(l0) + center - 0.00569 - 0.00478 * Math.sin(omega));
+        double eps0 = 23 + (26 + (21.448 - t * (46.815 + t * (0.00059 - t * 0.001813))) / 60) / 60;
+        double eps = Math.toRadians(eps0 + 0.00256 * Math.cos(omega));
+
+        double declination = Math.asin(Math.sin(eps) * Math.sin(lambda));
+        double y = Math.pow(Math.tan(eps / 2), 2);
+        double eqTime = y * Math.sin(2 * l0)
+                - 2 * e * Math.sin(m)
+                + 4 * e * y * Math.sin(m) * Math.cos(2 * l0)
+                - 0.5 * y * y * Math.sin(4 * l0)
+                - 1.25 * e * e * Math.sin(2 * m);
+        return new double[]{declination, 4 * Math.toDegrees(eqTime)};
+    }
+
+    /** Hour angle in degrees, NaN when the sun never reaches {@code zenith}. */
+    private static double hourAngle(double latitude, double declination, double zenith) {
+        double lat = Math.toRadians(latitude);
+        double cos = Math.cos(Math.toRadians(zenith)) / (Math.cos(lat) * Math.cos(declination))
+                - Math.tan(lat) * Math.tan(declination);
+        if (cos < -1 || cos > 1) return Double.NaN;
+        return Math.toDegrees(Math.acos(cos));
+    }
+
+    private static double mod360(double deg) {
+        double r = deg % 360;
+        return r < 0 ? r + 360 : r;
+    }
+}
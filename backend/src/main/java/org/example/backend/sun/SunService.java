@@ -0,0 +1,119 @@
+package org.example.backend.sun;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.config.WeatherProperties;
+import org.example.backend.model.sun.SunTimes;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sun times for the configured location. The current year's table is computed at startup and next year's on
+ * first use; lookups in those two are array reads. Other years a client asks for go into a small LRU of
+ * {@value #OTHER_YEARS} tables, so repeated {@code /api/sun} requests stay cheap and arbitrary ranges cannot grow
+ * the cache.
+ */
+@Slf4j
+@Service
+public class SunService {
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+    static final int OTHER_YEARS = 4;
+
+    private final WeatherProperties props;
+    private final ZoneId zone;
+    private final Map<Integer, SunTable> tables = new ConcurrentHashMap<>();
+    /** Access-ordered, guarded by itself. */
+    private final Map<Integer, SunTable> otherYears = new LinkedHashMap<>(OTHER_YEARS + 1, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, SunTable> eldest) {
+            return size() > OTHER_YEARS;
+        }
+    };
+
+    public SunService(WeatherProperties props) {
+        this.props = props;
+        this.zone = ZoneId.of(props.timezone());
+    }
+
+    @PostConstruct
+    void precompute() {
+        long start = System.nanoTime();
+        int year = today().getYear();
+        table(year);
+        log.debug("sun table for {} computed in {} ms", year, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(zone);
+    }
+
+    public SunTimes day(LocalDate date) {
+        return day(date, table(date.getYear()));
+    }
+
+    /** {@code from} to {@code to}, both inclusive. */
+    public List<SunTimes> range(LocalDate from, LocalDate to) {
+        var days = new ArrayList<SunTimes>();
+        SunTable t = null;
+        int year = 0;
+        for (var d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            if (t == null || d.getYear() != year) {
+                year = d.getYear();
+                t = table(year);
+            }
+            days.add(day(d, t));
+        }
+        return days;
+    }
+
+    Set<Integer> cachedYears() {
+        return Set.copyOf(tables.keySet());
+    }
+
+    Set<Integer> cachedOtherYears() {
+        synchronized (otherYears) {
+            return Set.copyOf(otherYears.keySet());
+        }
+    }
+
+    private SunTimes day(LocalDate date, SunTable t) {
+        return new SunTimes(date,
+                format(date, t.minutes(date, SunTable.SUNRISE)),
+                format(date, t.minutes(date, SunTable.SUNSET)),
+                format(date, t.minutes(date, SunTable.CIVIL_DAWN)),
+                format(date, t.minutes(date, SunTable.CIVIL_DUSK)));
+    }
+
+    private SunTable table(int year) {
+        int current = today().getYear();
+        if (year != current && year != current + 1) {
+            synchronized (otherYears) {
+                return otherYears.computeIfAbsent(year, this::compute);
+            }
+        }
+        var t = tables.get(year);
+        if (t == null) {
+            tables.keySet().removeIf(y -> y < current);
+            t = tables.computeIfAbsent(year, this::compute);
+        }
+        return t;
+    }
+
+    private SunTable compute(int year) {
+        return SunTable.compute(year, props.latitude(), props.longitude(), zone);
+    }
+
+    private static String format(LocalDate date, short minutes) {
+        return minutes == SunTable.NONE ? null : date.atStartOfDay().plusMinutes(minutes).format(FORMAT);
+    }
+}
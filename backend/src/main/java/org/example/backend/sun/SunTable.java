@@ -0,0 +1,53 @@
+package org.example.backend.sun;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZoneId;
+
+/**
+ * One year of sun events as local minutes after midnight, four shorts per day
+ * (sunrise, sunset, civil dawn, civil dusk) indexed by day of year.
+ */
+final class SunTable {
+
+    static final int SUNRISE = 0;
+    static final int SUNSET = 1;
+    static final int CIVIL_DAWN = 2;
+    static final int CIVIL_DUSK = 3;
+    static final short NONE = Short.MIN_VALUE;
+
+    private static final int EVENTS = 4;
+
+    private final short[] minutes;
+
+    private SunTable(short[] minutes) {
+        this.minutes = minutes;
+    }
+
+    static SunTable compute(int year, double latitude, double longitude, ZoneId zone) {
+        int days = Year.of(year).length();
+        short[] minutes = new short[days * EVENTS];
+        LocalDate date = LocalDate.ofYearDay(year, 1);
+        for (int d = 0; d < days; d++, date = date.plusDays(1)) {
+            int i = d * EVENTS;
+            minutes[i + SUNRISE] = pack(SolarCalculator.localMinutes(date, latitude, longitude, zone,
+                    SolarCalculator.SUNRISE_ZENITH, true));
+            minutes[i + SUNSET] = pack(SolarCalculator.localMinutes(date, latitude, longitude, zone,
+                    SolarCalculator.SUNRISE_ZENITH, false));
+            minutes[i + CIVIL_DAWN] = pack(SolarCalculator.localMinutes(date, latitude, longitude, zone,
+                    SolarCalculator.CIVIL_ZENITH, true));
+            minutes[i + CIVIL_DUSK] = pack(SolarCalculator.localMinutes(date, latitude, longitude, zone,
+                    SolarCalculator.CIVIL_ZENITH, false));
+        }
+        return new SunTable(minutes);
+    }
+
+    /** Minutes after local midnight of {@code date}, or {@link #NONE}. */
+    short minutes(LocalDate date, int event) {
+        return minutes[(date.getDayOfYear() - 1) * EVENTS + event];
+    }
+
+    private static short pack(int minutes) {
+        return minutes == SolarCalculator.NONE ? NONE : (short) minutes;
+    }
+}
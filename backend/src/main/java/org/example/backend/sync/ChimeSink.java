@@ -0,0 +1,14 @@
+package org.example.backend.sync;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/** Where a synchronized chime ends up: the speaker, or a log of start times. */
+interface ChimeSink extends Closeable {
+
+    /** How long before the start time {@link #play} must be entered. */
+    long leadInNanos();
+
+    /** Plays {@code play} so that its first frame sounds at {@code startNanoTime} ({@link System#nanoTime()} scale). */
+    void play(SyncedChime.Play play, long startNanoTime) throws IOException;
+}
@@ -0,0 +1,111 @@
+package org.example.backend.sync;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.config.SyncProperties;
+import org.example.backend.peer.PeerChannel;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NTP-style clock offset estimation between hubs. Each hub periodically multicasts a PING with its send time
+ * t0; every peer answers with a PONG carrying t0, its receive time t1 and its send time t2, and the pinger
+ * notes the arrival t3. Of the last {@code hub.sync.samples} exchanges per peer, the one with the smallest
+ * round-trip delay gives the offset, since it suffered the least queueing.
+ */
+@Slf4j
+@Component
+public class ClockSync {
+
+    private static final byte PING = 1;
+    private static final byte PONG = 2;
+
+    private final PeerChannel channel;
+    private final HubClock clock;
+    private final SyncProperties props;
+    private final Map<String, Deque<Sample>> samples = new ConcurrentHashMap<>();
+
+    /** {@code offset} = peer clock minus ours. */
+    record Sample(long offsetNanos, long delayNanos) {
+        static Sample of(long t0, long t1, long t2, long t3) {
+            return new Sample(((t1 - t0) + (t2 - t3)) / 2, (t3 - t0) - (t2 - t1));
+        }
+    }
+
+    public ClockSync(PeerChannel channel, HubClock clock, SyncProperties props) {
+        this.channel = channel;
+        this.clock = clock;
+        this.props = props;
+        channel.subscribe(PeerChannel.CLOCK, this::onDatagram);
+    }
+
+    @Scheduled(fixedDelayString = "${hub.sync.ping-ms:1000}")
+    public void ping() {
+        if (!props.enabled() || !channel.enabled()) return;
+        String node = channel.nodeId();
+        var buf = ByteBuffer.allocate(1 + SyncWire.size(node) + 8);
+        SyncWire.putString(buf.put(PING), node).putLong(clock.now());
+        channel.send(PeerChannel.CLOCK, buf.array());
+    }
+
+    /** Estimated offset of {@code node}'s clock to ours, once at least one exchange completed. */
+    public OptionalLong offset(String node) {
+        var window = samples.get(node);
+        if (window == null) return OptionalLong.empty();
+        synchronized (window) {
+            return window.stream()
+                    .min(Comparator.comparingLong(Sample::delayNanos))
+                    .map(s -> OptionalLong.of(s.offsetNanos()))
+                    .orElse(OptionalLong.empty());
+        }
+    }
+
+    /** Translates a time read off {@code node}'s clock into ours. */
+    public long toLocal(String node, long peerNanos) {
+        var offset = offset(node);
+        if (offset.isEmpty()) log.debug("no clock offset for {} yet, assuming 0", node);
+        return peerNanos - offset.orElse(0);
+    }
+
+    void record(String node, Sample sample) {
+        var window = samples.computeIfAbsent(node, n -> new ArrayDeque<>());
+        synchronized (window) {
+            window.addLast(sample);
+            while (window.size() > Math.max(1, props.samples())) window.removeFirst();
+        }
+    }
+
+    private void onDatagram(PeerChannel.Datagram datagram) {
+        long received = clock.now();
+        if (!props.enabled()) return;
+        try {
+            var buf = ByteBuffer.wrap(datagram.payload());
+            byte type = buf.get();
+            String from = SyncWire.getString(buf);
+            if (from.equals(channel.nodeId())) return;
+            if (type == PING) {
+                pong(from, buf.getLong(), received);
+            } else if (type == PONG && SyncWire.getString(buf).equals(channel.nodeId())) {
+                record(from, Sample.of(buf.getLong(), buf.getLong(), buf.getLong(), received));
+            }
+        } catch (BufferUnderflowException e) {
+            log.debug("malformed clock datagram from {}", datagram.from());
+        }
+    }
+
+    private void pong(String to, long t0, long t1) {
+        String node = channel.nodeId();
+        var buf = ByteBuffer.allocate(1 + SyncWire.size(node) + SyncWire.size(to) + 24);
+        SyncWire.putString(SyncWire.putString(buf.put(PONG), node), to).putLong(t0).putLong(t1);
+        buf.putLong(clock.now());
+        channel.send(PeerChannel.CLOCK, buf.array());
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.backend.sync;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Stand-in for the speaker when checking sync on one machine: waits for the start time and appends
+ * {@code node,origin,seq,startMicros,lateMicros} to a CSV file. {@code startMicros} is the unskewed system
+ * clock, so lines from several instances on the same host compare directly.
+ */
+final class FileSink implements ChimeSink {
+
+    private static final long LEAD_IN_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final Path file;
+    private final String node;
+
+    FileSink(Path file, String node) throws IOException {
+        this.file = file;
+        this.node = node;
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+    }
+
+    @Override
+    public long leadInNanos() {
+        return LEAD_IN_NANOS;
+    }
+
+    @Override
+    public void play(SyncedChime.Play play, long startNanoTime) throws IOException {
+        long park;
+        while ((park = startNanoTime - System.nanoTime() - SPIN_NANOS) > 0) {
+            LockSupport.parkNanos(park);
+        }
+        while (System.nanoTime() < startNanoTime) {
+            Thread.onSpinWait();
+        }
+        Instant started = Instant.now();
+        long lateMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanoTime);
+        long startMicros = TimeUnit.SECONDS.toMicros(started.getEpochSecond()) + started.getNano() / 1_000;
+        String line = String.join(",", node, play.origin(), Long.toString(play.seq()),
+                Long.toString(startMicros), Long.toString(lateMicros)) + "\n";
+        Files.writeString(file, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.backend.sync;
+
+import org.example.backend.config.SyncProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This hub's notion of wall-clock time in epoch nanoseconds. Anchored to the system clock once and then
+ * advanced by {@link System#nanoTime()}, so NTP steps cannot move a scheduled chime. {@code hub.sync.clock-skew-ms}
+ * shifts it, to run hubs with deliberately wrong clocks on one machine.
+ */
+@Component
+public class HubClock {
+
+    private final long originEpochNanos;
+    private final long originNanoTime;
+    private final long skewNanos;
+
+    @Autowired
+    public HubClock(SyncProperties props) {
+        this(props.clockSkewMs());
+    }
+
+    HubClock(long skewMs) {
+        Instant now = Instant.now();
+        this.originNanoTime = System.nanoTime();
+        this.originEpochNanos = TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+        this.skewNanos = TimeUnit.MILLISECONDS.toNanos(skewMs);
+    }
+
+    public long now() {
+        return originEpochNanos + skewNanos + (System.nanoTime() - originNanoTime);
+    }
+
+    /** The {@link System#nanoTime()} at which this clock reads {@code hubNanos}. */
+    public long toNanoTime(long hubNanos) {
+        return originNanoTime + (hubNanos - skewNanos - originEpochNanos);
+    }
+}
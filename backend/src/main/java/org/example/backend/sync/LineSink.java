@@ -0,0 +1,61 @@
+package org.example.backend.sync;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays on a {@link SourceDataLine} that is opened once at startup. The start is placed to the frame by
+ * writing exactly as much silence as is left until the start time; a late start drops the frames that
+ * are already due instead, so the hub stays in step with the others. What remains is the device's own
+ * output latency, which is the same on identical hubs.
+ */
+final class LineSink implements ChimeSink {
+
+    private static final long LEAD_IN_NANOS = TimeUnit.MILLISECONDS.toNanos(40);
+
+    private final SourceDataLine line;
+    private final AudioFormat format;
+    private final byte[] silence;
+
+    LineSink(AudioFormat format) throws LineUnavailableException {
+        this.format = format;
+        this.line = AudioSystem.getSourceDataLine(format);
+        line.open(format);
+        this.silence = new byte[frames(2 * LEAD_IN_NANOS) * format.getFrameSize()];
+    }
+
+    @Override
+    public long leadInNanos() {
+        return LEAD_IN_NANOS;
+    }
+
+    @Override
+    public void play(SyncedChime.Play play, long startNanoTime) {
+        byte[] pcm = play.pcm().pcm();
+        int frameSize = format.getFrameSize();
+        line.start();
+        long ahead = startNanoTime - System.nanoTime();
+        int offset = 0;
+        if (ahead >= 0) {
+            int padding = Math.min(frames(ahead) * frameSize, silence.length);
+            line.write(silence, 0, padding);
+        } else {
+            offset = (int) Math.min(pcm.length, (long) frames(-ahead) * frameSize);
+        }
+        line.write(pcm, offset, pcm.length - offset);
+        line.drain();
+        line.stop();
+    }
+
+    @Override
+    public void close() {
+        line.close();
+    }
+
+    private int frames(long nanos) {
+        return (int) Math.round(nanos * (double) format.getFrameRate() / 1e9);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.backend.sync;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/** Length-prefixed strings for the binary sync datagrams. */
+final class SyncWire {
+
+    private SyncWire() {}
+
+    static int size(String s) {
+        return 2 + s.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    static ByteBuffer putString(ByteBuffer buf, String s) {
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        return buf.putShort((short) b.length).put(b);
+    }
+
+    static String getString(ByteBuffer buf) {
+        int len = Short.toUnsignedInt(buf.getShort());
+        if (len > buf.remaining()) throw new BufferUnderflowException();
+        byte[] b = new byte[len];
+        buf.get(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.backend.sync;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.audio.PreparedChime;
+import org.example.backend.config.SyncProperties;
+import org.example.backend.model.SoundSource;
+import org.example.backend.peer.PeerChannel;
+import org.example.backend.service.ChimeScheduler;
+import org.example.backend.service.ChimeService;
+import org.example.backend.startup.StartupTimeline;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import javax.sound.sampled.LineUnavailableException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plays the chime on all peer hubs at the same instant. A press becomes PLAY_AT(T), T = now + {@code leadMs}
+ * on this hub's clock; it is multicast to the peers and scheduled here. Peers translate T into their own
+ * clock with the offset from {@link ClockSync}. Presses on several hubs within {@code leadMs} of each other
+ * are the same ring: every hub keeps the earliest T (ties by node id), so all of them converge on one start.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@DependsOn("chimePreprocessor")
+public class SyncedChime implements ChimeScheduler {
+
+    private static final Comparator<Play> ORDER = Comparator.comparingLong(Play::at).thenComparing(Play::origin);
+
+    private final PeerChannel channel;
+    private final ClockSync sync;
+    private final HubClock clock;
+    private final ChimeService chime;
+    private final SyncProperties props;
+    private final long windowNanos;
+    private final AtomicLong seq = new AtomicLong();
+
+    private final PriorityQueue<Play> queue = new PriorityQueue<>(ORDER);
+    private Play lastStarted;
+    private ChimeSink sink;
+    private volatile Thread player;
+
+    /** {@code at} is on this hub's clock. */
+    record Play(long at, String origin, long seq, PreparedChime pcm) {}
+
+    public SyncedChime(PeerChannel channel, ClockSync sync, HubClock clock, ChimeService chime, SyncProperties props) {
+        this.channel = channel;
+        this.sync = sync;
+        this.clock = clock;
+        this.chime = chime;
+        this.props = props;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(props.leadMs());
+        channel.subscribe(PeerChannel.CHIME, this::onDatagram);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!props.enabled()) return;
+        if (!channel.enabled()) {
+            log.warn("hub.sync.enabled needs hub.peer.enabled, chimes play unsynchronized");
+            return;
+        }
+        var pcm = chime.resolveSource().flatMap(src -> chime.prepared(src.classpath()));
+        if (pcm.isEmpty()) {
+            log.warn("synchronized playback needs a prepared chime (hub.chime.preprocess), chimes play unsynchronized");
+            return;
+        }
+        try {
+            sink = props.sink() == SyncProperties.Sink.FILE
+                    ? new FileSink(Path.of(props.sinkFile()), channel.nodeId())
+                    : new LineSink(pcm.get().format());
+        } catch (LineUnavailableException e) {
+            log.warn("no output line for synchronized playback, chimes play unsynchronized: {}", e.getMessage());
+            return;
+        }
+
+        Thread t = new Thread(this::playLoop, "chime-sync");
+        t.setDaemon(true);
+        t.setPriority(Thread.MAX_PRIORITY);
+        player = t;
+        t.start();
+        chime.useScheduler(this);
+        log.info("synchronized chime on: lead {} ms, sink {}", props.leadMs(), props.sink());
+    }
+
+    @PreDestroy
+    void stop() throws IOException {
+        var t = player;
+        player = null;
+        if (t == null) return;
+        chime.useScheduler(null);
+        t.interrupt();
+        sink.close();
+    }
+
+    @Override
+    public boolean schedule(SoundSource src) {
+        var pcm = chime.prepared(src.classpath());
+        if (pcm.isEmpty() || player == null) return false;
+
+        var play = new Play(clock.now() + windowNanos, channel.nodeId(), seq.incrementAndGet(), pcm.get());
+        offer(play);
+        String classpath = src.classpath();
+        var buf = ByteBuffer.allocate(SyncWire.size(play.origin()) + 16 + SyncWire.size(classpath));
+        SyncWire.putString(buf, play.origin()).putLong(play.seq()).putLong(play.at());
+        SyncWire.putString(buf, classpath);
+        channel.send(PeerChannel.CHIME, buf.array());
+        return true;
+    }
+
+    /** Queues {@code play} unless it belongs to a ring that already starts earlier. */
+    synchronized boolean offer(Play play) {
+        if (lastStarted != null && sameRing(play, lastStarted)) return false;
+        for (var it = queue.iterator(); it.hasNext(); ) {
+            var queued = it.next();
+            if (!sameRing(play, queued)) continue;
+            if (ORDER.compare(play, queued) >= 0) return false;
+            it.remove();
+        }
+        queue.add(play);
+        notifyAll();
+        return true;
+    }
+
+    private boolean sameRing(Play a, Play b) {
+        return Math.abs(a.at() - b.at()) < windowNanos;
+    }
+
+    private void onDatagram(PeerChannel.Datagram datagram) {
+        if (player == null) return;
+        try {
+            var buf = ByteBuffer.wrap(datagram.payload());
+            String origin = SyncWire.getString(buf);
+            if (origin.equals(channel.nodeId())) return;
+            long seq = buf.getLong();
+            long at = sync.toLocal(origin, buf.getLong());
+            chime.prepared(SyncWire.getString(buf))
+                    .ifPresent(pcm -> offer(new Play(at, origin, seq, pcm)));
+        } catch (BufferUnderflowException e) {
+            log.debug("malformed chime datagram from {}", datagram.from());
+        }
+    }
+
+    private void playLoop() {
+        while (player != null) {
+            try {
+                Play next = awaitDue();
+                if (StartupTimeline.markOnce(StartupTimeline.FIRST_CHIME)) {
+                    log.info("time-to-first-chime: {} ms after JVM launch (synchronized)",
+                            StartupTimeline.get(StartupTimeline.FIRST_CHIME));
+                }
+                sink.play(next, clock.toNanoTime(next.at()));
+                log.info("synced chime #{} from {} played", next.seq(), next.origin());
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.error("synchronized chime playback failed", e);
+            }
+        }
+    }
+
+    private synchronized Play awaitDue() throws InterruptedException {
+        while (true) {
+            Play next = queue.peek();
+            if (next == null) {
+                wait();
+                continue;
+            }
+            long wait = clock.toNanoTime(next.at()) - sink.leadInNanos() - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, wait);
+                continue;
+            }
+            queue.poll();
+            lastStarted = next;
+            return next;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.backend.trigger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * Wire format of the UDP doorbell trigger and its acknowledgement (big-endian):
+ * <pre>
+ * trigger  "AHTR" | version:1 | counter:8 | sentAtMs:8              | hmac:16   (37 bytes)
+ * ack      "AHAK" | version:1 | counter:8 | status:1 | dispatchUs:4 | hmac:16   (34 bytes)
+ * </pre>
+ * {@code hmac} is HMAC-SHA256 over all preceding bytes with the shared secret, truncated to 16 bytes.
+ * {@code counter} must increase with every press; {@code dispatchUs} is receive-to-dispatch time on the hub: from
+ * the datagram's arrival until {@code ChimeService.playAsync} returned, i.e. the pre-opened clip was started (or the
+ * press handed to the sync scheduler or a player thread). Output buffer latency of the sound device is not included.
+ */
+public final class TriggerPacket {
+
+    public static final int TRIGGER_LENGTH = 37;
+    public static final int ACK_LENGTH = 34;
+
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_NO_SOURCE = 1;
+    public static final byte STATUS_REJECTED = 2;
+
+    private static final byte[] TRIGGER_MAGIC = "AHTR".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ACK_MAGIC = "AHAK".getBytes(StandardCharsets.US_ASCII);
+    private static final byte VERSION = 1;
+    private static final int MAC_LENGTH = 16;
+
+    public record Trigger(long counter, long sentAtMs) {}
+
+    public record Ack(long counter, byte status, int dispatchUs) {}
+
+    private TriggerPacket() {
+    }
+
+    public static byte[] encodeTrigger(Mac mac, long counter, long sentAtMs) {
+        var buf = ByteBuffer.allocate(TRIGGER_LENGTH).put(TRIGGER_MAGIC).put(VERSION).putLong(counter).putLong(sentAtMs);
+        return sign(mac, buf);
+    }
+
+    /** Parses and authenticates a trigger; {@code null} for anything malformed or not signed with our secret. */
+    public static Trigger decodeTrigger(Mac mac, ByteBuffer packet) {
+        if (packet.remaining() != TRIGGER_LENGTH || !verify(mac, packet, TRIGGER_MAGIC)) return null;
+        int p = packet.position() + TRIGGER_MAGIC.length + 1;
+        return new Trigger(packet.getLong(p), packet.getLong(p + 8));
+    }
+
+    public static byte[] encodeAck(Mac mac, long counter, byte status, int dispatchUs) {
+        var buf = ByteBuffer.allocate(ACK_LENGTH).put(ACK_MAGIC).put(VERSION).putLong(counter).put(status).putInt(dispatchUs);
+        return sign(mac, buf);
+    }
+
+    public static Ack decodeAck(Mac mac, ByteBuffer packet) {
+        if (packet.remaining() != ACK_LENGTH || !verify(mac, packet, ACK_MAGIC)) return null;
+        int p = packet.position() + ACK_MAGIC.length + 1;
+        return new Ack(packet.getLong(p), packet.get(p + 8), packet.getInt(p + 9));
+    }
+
+    /** A fresh HMAC instance for {@code secret}; not thread-safe, keep one per thread. */
+    public static Mac mac(String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private static byte[] sign(Mac mac, ByteBuffer buf) {
+        byte[] out = buf.array();
+        int bodyLength = out.length - MAC_LENGTH;
+        mac.update(out, 0, bodyLength);
+        System.arraycopy(mac.doFinal(), 0, out, bodyLength, MAC_LENGTH);
+        return out;
+    }
+
+    private static boolean verify(Mac mac, ByteBuffer packet, byte[] magic) {
+        byte[] bytes = new byte[packet.remaining()];
+        packet.duplicate().get(bytes);
+        if (!Arrays.equals(bytes, 0, magic.length, magic, 0, magic.length) || bytes[magic.length] != VERSION) {
+            return false;
+        }
+        int bodyLength = bytes.length - MAC_LENGTH;
+        mac.update(bytes, 0, bodyLength);
+        byte[] expected = mac.doFinal();
+        return MessageDigest.isEqual(
+                Arrays.copyOf(expected, MAC_LENGTH),
+                Arrays.copyOfRange(bytes, bodyLength, bytes.length));
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.backend.trigger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.config.TriggerProperties;
+import org.example.backend.model.SoundSource;
+import org.example.backend.service.ChimeService;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.Optional;
+
+/**
+ * Doorbell trigger that bypasses the HTTP stack: one authenticated datagram in, chime dispatched on this
+ * listener's own thread, one acknowledgement datagram back. Off unless {@code hub.trigger.udp.enabled=true}.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class UdpTriggerListener {
+
+    private final TriggerProperties props;
+    private final ChimeService chime;
+
+    private volatile DatagramChannel channel;
+    private long lastCounter = Long.MIN_VALUE;
+
+    public UdpTriggerListener(TriggerProperties props, ChimeService chime) {
+        this.props = props;
+        this.chime = chime;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!props.enabled()) return;
+        if (props.secret() == null || props.secret().isBlank()) {
+            throw new IllegalStateException("hub.trigger.udp.secret must be set when the UDP trigger is enabled");
+        }
+        var ch = DatagramChannel.open().bind(new InetSocketAddress(props.bindAddress(), props.port()));
+        channel = ch;
+        Mac mac = TriggerPacket.mac(props.secret());
+        Optional<SoundSource> source = chime.resolveSource();
+
+        Thread t = new Thread(() -> receiveLoop(ch, mac, source), "chime-trigger");
+        t.setDaemon(true);
+        t.setPriority(Thread.MAX_PRIORITY);
+        t.start();
+        log.info("UDP chime trigger listening on {}", ch.getLocalAddress());
+    }
+
+    @PreDestroy
+    void stop() throws IOException {
+        var ch = channel;
+        channel = null;
+        if (ch != null) ch.close();
+    }
+
+    int localPort() throws IOException {
+        return ((InetSocketAddress) channel.getLocalAddress()).getPort();
+    }
+
+    private void receiveLoop(DatagramChannel ch, Mac mac, Optional<SoundSource> source) {
+        ByteBuffer in = ByteBuffer.allocateDirect(TriggerPacket.TRIGGER_LENGTH + 1);
+        while (ch.isOpen()) {
+            try {
+                in.clear();
+                SocketAddress from = ch.receive(in);
+                long received = System.nanoTime();
+                in.flip();
+                handle(ch, mac, source, in, from, received);
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("UDP trigger failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void handle(DatagramChannel ch, Mac mac, Optional<SoundSource> source,
+                        ByteBuffer packet, SocketAddress from, long received) throws IOException {
+        var trigger = TriggerPacket.decodeTrigger(mac, packet);
+        if (trigger == null) {
+            log.debug("UDP trigger dropped: unauthenticated packet from {}", from);
+            return;
+        }
+
+        byte status;
+        Freshness freshness = freshness(trigger);
+        if (freshness == Freshness.STALE) {
+            status = TriggerPacket.STATUS_REJECTED;
+        } else if (source.isEmpty()) {
+            status = TriggerPacket.STATUS_NO_SOURCE;
+        } else {
+            if (freshness == Freshness.NEW) chime.playAsync(source.get());
+            status = TriggerPacket.STATUS_OK;
+        }
+        int dispatchUs = (int) ((System.nanoTime() - received) / 1_000);
+        ch.send(ByteBuffer.wrap(TriggerPacket.encodeAck(mac, trigger.counter(), status, dispatchUs)), from);
+
+        if (freshness == Freshness.REPEAT) {
+            log.debug("UDP trigger #{} retransmitted by {}, ack repeated", trigger.counter(), from);
+        } else if (status == TriggerPacket.STATUS_OK) {
+            log.info("Chime play requested (udp trigger #{}, dispatch {} us)", trigger.counter(), dispatchUs);
+        } else {
+            log.warn("UDP trigger #{} from {} not played, status={}", trigger.counter(), from, status);
+        }
+    }
+
+    private enum Freshness { NEW, REPEAT, STALE }
+
+    /**
+     * Replay protection: counters must increase, and the device clock must be close to ours. The last accepted
+     * counter again is a retransmit after a lost ack; it is acknowledged without playing the chime twice.
+     */
+    private Freshness freshness(TriggerPacket.Trigger trigger) {
+        if (Math.abs(System.currentTimeMillis() - trigger.sentAtMs()) > props.maxSkewMs()) return Freshness.STALE;
+        if (trigger.counter() == lastCounter) return Freshness.REPEAT;
+        if (trigger.counter() < lastCounter) return Freshness.STALE;
+        lastCounter = trigger.counter();
+        return Freshness.NEW;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.backend.visitor;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One ring's JPEG. {@code id} increases within this process; {@code key} adds a per-boot nonce to it, so it stays
+ * unique across restarts even if the clock went backwards, and URLs and ETags built from it can be cached forever.
+ */
+public record VisitorFrame(long id, String key, Instant receivedAt, byte[] jpeg, CompletableFuture<byte[]> thumbnail) {
+
+    /** The thumbnail once it has been scaled, else {@code null}. */
+    public byte[] thumbnailIfReady() {
+        return thumbnail.isDone() && !thumbnail.isCompletedExceptionally() ? thumbnail.join() : null;
+    }
+}
@@ -0,0 +1,4 @@
+package org.example.backend.visitor;
+
+/** Published when a frame is stored and again once its thumbnail is ready. */
+public record VisitorFrameEvent(VisitorFrame frame) {}
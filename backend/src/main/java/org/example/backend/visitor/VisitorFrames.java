@@ -0,0 +1,191 @@
+package org.example.backend.visitor;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.config.VisitorProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The last N visitor frames, newest first. Thumbnails are scaled on a small worker pool so the doorbell's
+ * POST returns as soon as the frame is stored. The pool's queue holds at most N jobs, dropping the oldest, and a
+ * job whose frame has already left the ring is skipped, so a burst of frames cannot pin more JPEGs than the ring.
+ */
+@Slf4j
+@Service
+public class VisitorFrames {
+
+    private static final float THUMBNAIL_QUALITY = 0.8f;
+
+    private final VisitorProperties props;
+    private final ApplicationEventPublisher events;
+    private final ThreadPoolExecutor thumbnailer;
+
+    private final String bootNonce = Long.toString(new SecureRandom().nextLong() >>> 16, 36);
+    private final VisitorFrame[] ring;
+    private int next;
+    private long lastId;
+
+    public VisitorFrames(VisitorProperties props, ApplicationEventPublisher events) {
+        this.props = props;
+        this.events = events;
+        this.ring = new VisitorFrame[Math.max(1, props.capacity())];
+        var count = new AtomicInteger();
+        int workers = Math.max(1, props.thumbnailWorkers());
+        this.thumbnailer = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(ring.length), r -> {
+            Thread t = new Thread(r, "visitor-thumb-" + count.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        }, new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        thumbnailer.shutdownNow();
+    }
+
+    public static boolean isJpeg(byte[] data) {
+        return data.length > 3 && (data[0] & 0xFF) == 0xFF && (data[1] & 0xFF) == 0xD8 && (data[2] & 0xFF) == 0xFF;
+    }
+
+    /** Stores {@code jpeg} (not copied; the caller hands it over) and queues its thumbnail. */
+    public VisitorFrame add(byte[] jpeg) {
+        if (!isJpeg(jpeg)) throw new IllegalArgumentException("not a JPEG");
+        Instant now = Instant.now();
+        VisitorFrame frame;
+        synchronized (ring) {
+            // epoch millis, bumped on collisions; the boot nonce in the key covers a clock that ran backwards
+            lastId = Math.max(lastId + 1, now.toEpochMilli());
+            frame = new VisitorFrame(lastId, lastId + "-" + bootNonce, now, jpeg, new CompletableFuture<>());
+            ring[next] = frame;
+            next = (next + 1) % ring.length;
+        }
+        var thumbnail = frame.thumbnail();
+        CompletableFuture.supplyAsync(() -> {
+            if (get(frame.key()).isEmpty()) throw new CancellationException("evicted before its thumbnail");
+            return thumbnail(jpeg);
+        }, thumbnailer).whenComplete((bytes, err) -> {
+            if (err != null) {
+                if (err.getCause() instanceof CancellationException) log.debug("visitor frame {} evicted before its thumbnail", frame.key());
+                else log.warn("thumbnail for visitor frame {} failed: {}", frame.key(), err.getMessage());
+                thumbnail.completeExceptionally(err);
+            } else {
+                thumbnail.complete(bytes);
+                events.publishEvent(new VisitorFrameEvent(frame));
+            }
+        });
+        events.publishEvent(new VisitorFrameEvent(frame));
+        return frame;
+    }
+
+    int queuedThumbnails() {
+        return thumbnailer.getQueue().size();
+    }
+
+    /** Newest first. */
+    public List<VisitorFrame> recent() {
+        var frames = new ArrayList<VisitorFrame>(ring.length);
+        synchronized (ring) {
+            for (int i = 1; i <= ring.length; i++) {
+                var f = ring[Math.floorMod(next - i, ring.length)];
+                if (f == null) break;
+                frames.add(f);
+            }
+        }
+        return frames;
+    }
+
+    public Optional<VisitorFrame> get(String key) {
+        synchronized (ring) {
+            for (var f : ring) {
+                if (f != null && f.key().equals(key)) return Optional.of(f);
+            }
+        }
+        return Optional.empty();
+    }
+
+    byte[] thumbnail(byte[] jpeg) {
+        try {
+            BufferedImage src = decode(jpeg);
+            int width = Math.min(props.thumbnailWidth(), src.getWidth());
+            int height = Math.max(1, Math.round(src.getHeight() * (width / (float) src.getWidth())));
+
+            var thumb = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = thumb.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(src, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            return encode(thumb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Decodes {@code jpeg} after checking the dimensions in its header against {@code maxFramePixels}. */
+    private BufferedImage decode(byte[] jpeg) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(jpeg))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) throw new IOException("undecodable JPEG");
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > props.maxFramePixels()) {
+                    throw new IOException(reader.getWidth(0) + "x" + reader.getHeight(0) + " exceeds "
+                            + props.maxFramePixels() + " pixels");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        var out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(THUMBNAIL_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.backend.alert;
+
+import org.example.backend.config.AlertProperties.Rule;
+import org.example.backend.model.alert.Alert;
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlertRulesTest {
+
+    private static final String HERE = "51.938,8.875";
+
+    private final AlertRules rules = AlertRules.compile(List.of(
+            new Rule("rain-60", "today.precipProbMax >= 60", "Schirm", null),
+            new Rule("rain-80", "today.precipProbMax > 80", "Sicher Regen", null),
+            new Rule("rain-80i", "today.precipProbMax >= 80", null, null),
+            new Rule("frost", "today.min <= 0", "Frost", null),
+            new Rule("deep-frost", "today.min < -5", "Strenger Frost", null),
+            new Rule("frost-tomorrow", "tomorrow.min <= 0", "Morgen Frost", null),
+            new Rule("elsewhere", "today.min <= 30", "anderswo", "48.1,11.6")
+    ), HERE);
+
+    @Test
+    void compile_skipsRulesForOtherLocations() {
+        assertEquals(6, rules.size());
+        var here = AlertRules.compile(List.of(new Rule("x", "today.min <= 30", null, " 51.938 , 8.875 ")), HERE);
+        assertEquals(1, here.size());
+    }
+
+    @Test
+    void active_honoursOperators_andEqualThresholds() {
+        assertEquals(List.of(), ids(rules.active(snap(59, 5, 5))));
+        assertEquals(List.of("rain-60", "rain-80i"), ids(rules.active(snap(80, 5, 5))));
+        assertEquals(List.of("rain-60", "rain-80i", "rain-80"), ids(rules.active(snap(81, 5, 5))));
+        assertEquals(List.of("frost", "deep-frost", "frost-tomorrow"), ids(rules.active(snap(0, -6, 0))));
+        assertEquals(List.of("frost"), ids(rules.active(snap(0, -5, 1))));
+    }
+
+    @Test
+    void diff_reportsOnlyTransitions() {
+        var first = rules.diff(null, snap(70, 1, 1));
+        assertEquals(1, first.size());
+        assertTrue(first.getFirst().raised());
+        assertEquals("rain-60", first.getFirst().alert().id());
+        assertEquals(70.0, first.getFirst().value());
+
+        assertEquals(List.of(), rules.diff(snap(70, 1, 1), snap(75, 2, 3)), "nothing crossed");
+
+        var changes = rules.diff(snap(75, 2, 3), snap(40, -1, 3));
+        assertEquals(2, changes.size());
+        assertTrue(changes.stream().anyMatch(c -> c.alert().id().equals("rain-60") && !c.raised()));
+        assertTrue(changes.stream().anyMatch(c -> c.alert().id().equals("frost") && c.raised()));
+    }
+
+    @Test
+    void missingValues_holdNoRule() {
+        var day = new WeatherSnapshot.Day(null, null, null, null, null, null, null, null);
+        var empty = new WeatherSnapshot(OffsetDateTime.now(), day, null);
+        assertEquals(List.of(), rules.active(empty));
+        var cleared = rules.diff(snap(90, -10, -10), empty);
+        assertEquals(6, cleared.size());
+        assertTrue(cleared.stream().noneMatch(AlertRules.Change::raised));
+    }
+
+    @Test
+    void malformedRules_failAtLoad() {
+        var e = assertThrows(IllegalStateException.class,
+                () -> AlertRules.compile(List.of(new Rule("x", "today.wind > 3", null, null)), HERE));
+        assertTrue(e.getMessage().contains("unknown metric"));
+        assertThrows(IllegalStateException.class,
+                () -> AlertRules.compile(List.of(new Rule("x", "today.min => 3", null, null)), HERE));
+        assertThrows(IllegalStateException.class,
+                () -> AlertRules.compile(List.of(new Rule(null, "today.min > 3", null, null)), HERE));
+    }
+
+    static WeatherSnapshot snap(int precipProbMax, int min, int tomorrowMin) {
+        var today = new WeatherSnapshot.Day(20, min, 0.0, 1, 10, precipProbMax, null, null);
+        var tomorrow = new WeatherSnapshot.Day(20, tomorrowMin, 0.0, 1, 10, 0, null, null);
+        return new WeatherSnapshot(OffsetDateTime.parse("2025-09-10T08:00:00+02:00"), today, tomorrow);
+    }
+
+    private static List<String> ids(List<Alert> alerts) {
+        return alerts.stream().map(Alert::id).toList();
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.backend.alert;
+
+import org.example.backend.config.AlertProperties;
+import org.example.backend.config.WeatherProperties;
+import org.example.backend.model.alert.AlertTransition;
+import org.example.backend.service.WeatherStreamBroadcaster;
+import org.example.backend.service.WeatherUpdatedEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.example.backend.alert.AlertRulesTest.snap;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AlertServiceTest {
+
+    private final WeatherStreamBroadcaster broadcaster = mock(WeatherStreamBroadcaster.class);
+    private final ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+    private final AlertService service = new AlertService(
+            new AlertProperties(List.of(new AlertProperties.Rule("umbrella", "today.precipProbMax >= 60", "Schirm", null))),
+            new WeatherProperties(51.938, 8.875, "Europe/Berlin"),
+            broadcaster, events);
+
+    @Test
+    void pushesRaisedAndCleared_butNothingWhileUnchanged() {
+        service.onWeather(new WeatherUpdatedEvent(snap(70, 5, 5)));
+        service.onWeather(new WeatherUpdatedEvent(snap(90, 5, 5)));
+        service.onWeather(new WeatherUpdatedEvent(snap(20, 5, 5)));
+
+        var pushed = ArgumentCaptor.forClass(AlertTransition.class);
+        verify(broadcaster, times(2)).broadcastAlert(pushed.capture());
+        assertEquals(AlertTransition.State.RAISED, pushed.getAllValues().get(0).state());
+        assertEquals("umbrella", pushed.getAllValues().get(0).alert().id());
+        assertEquals(AlertTransition.State.CLEARED, pushed.getAllValues().get(1).state());
+        assertEquals(20.0, pushed.getAllValues().get(1).value());
+
+        var changed = ArgumentCaptor.forClass(AlertsChangedEvent.class);
+        verify(events, times(2)).publishEvent(changed.capture());
+        assertEquals(pushed.getAllValues(),
+                changed.getAllValues().stream().flatMap(e -> e.transitions().stream()).toList());
+        assertEquals(List.of(), service.active());
+    }
+
+    @Test
+    void active_listsHoldingRules() {
+        service.onWeather(new WeatherUpdatedEvent(snap(70, 5, 5)));
+        assertEquals("umbrella", service.active().getFirst().id());
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.backend.audio;
+
+import org.example.backend.config.ChimeProperties;
+import org.example.backend.model.SoundSource;
+import org.example.backend.service.ChimeService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import javax.sound.sampled.AudioFormat;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChimePreprocessorTest {
+
+    private static final AudioFormat TARGET = new AudioFormat(48_000f, 16, 2, true, false);
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    void prepare_convertsToTargetFormat_andCachesBySourceHash() throws Exception {
+        var preprocessor = preprocessor();
+        var src = new SoundSource("sounds/doorbell.mp3", true);
+        byte[] data = new ClassPathResource(src.classpath()).getContentAsByteArray();
+
+        var first = preprocessor.prepare(src, data, TARGET);
+
+        assertFalse(first.fromCache());
+        assertTrue(TARGET.matches(first.format()), first.format().toString());
+        assertTrue(first.durationMs() > 100, "chime should not be trimmed away");
+        var raw = AudioDecoder.decode(data, true);
+        assertTrue(first.durationMs() <= raw.durationMs(), "trimming never makes it longer");
+        assertTrue(Files.exists(cacheDir.resolve(preprocessor.cacheKey(data, TARGET) + ".wav")));
+
+        var second = preprocessor.prepare(src, data, TARGET);
+
+        assertTrue(second.fromCache());
+        assertTrue(first.format().matches(second.format()));
+        assertArrayEquals(first.pcm(), second.pcm());
+    }
+
+    @Test
+    void cacheKey_dependsOnSourceAndTargetFormat() {
+        var preprocessor = preprocessor();
+        byte[] a = {1, 2, 3};
+        byte[] b = {1, 2, 4};
+        var mono = new AudioFormat(44_100f, 16, 1, true, false);
+
+        assertEquals(preprocessor.cacheKey(a, TARGET), preprocessor.cacheKey(a.clone(), TARGET));
+        assertNotEquals(preprocessor.cacheKey(a, TARGET), preprocessor.cacheKey(b, TARGET));
+        assertNotEquals(preprocessor.cacheKey(a, TARGET), preprocessor.cacheKey(a, mono));
+    }
+
+    @Test
+    void prepareAll_registersPcmWithChimeService() {
+        var chime = new RecordingChimeService();
+        new ChimePreprocessor(chime, props()).prepareAll();
+
+        assertEquals("sounds/doorbell.mp3", chime.classpath);
+        assertNotNull(chime.pcm);
+    }
+
+    private ChimePreprocessor preprocessor() {
+        return new ChimePreprocessor(new ChimeService(), props());
+    }
+
+    private ChimeProperties props() {
+        return new ChimeProperties(true, cacheDir.toString(), 48_000, 2, -50, -18, -1);
+    }
+
+    private static class RecordingChimeService extends ChimeService {
+        String classpath;
+        PreparedChime pcm;
+
+        @Override
+        public void usePrepared(String classpath, PreparedChime pcm) {
+            this.classpath = classpath;
+            this.pcm = pcm;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.backend.audio;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PcmProcessingTest {
+
+    private static final float RATE = 8_000f;
+
+    @Test
+    void trimSilence_dropsLeadingAndTrailingSilence_keepingShortPads() {
+        // 500 ms silence, 250 ms tone, 500 ms silence
+        var pcm = new Pcm(RATE, 1, concat(silence(4_000), tone(2_000, 0.5f), silence(4_000)));
+
+        var trimmed = PcmProcessing.trimSilence(pcm, -50);
+
+        double expectedMs = 250 + PcmProcessing.LEAD_PAD_MS + PcmProcessing.TAIL_PAD_MS;
+        assertEquals(expectedMs, trimmed.durationMs(), 1.0);
+        assertEquals(0f, trimmed.samples()[trimmed.samples().length - 1], 1e-6f, "tail faded out");
+    }
+
+    @Test
+    void trimSilence_ofPureSilence_isEmpty() {
+        var trimmed = PcmProcessing.trimSilence(new Pcm(RATE, 2, silence(1_000)), -50);
+        assertEquals(0, trimmed.frames());
+    }
+
+    @Test
+    void resample_keepsDurationAndEndpoints() {
+        var pcm = new Pcm(44_100f, 1, tone(44_100, 0.5f));
+
+        var out = PcmProcessing.resample(pcm, 48_000f);
+
+        assertEquals(48_000f, out.sampleRate());
+        assertEquals(pcm.durationMs(), out.durationMs(), 0.1);
+        assertEquals(pcm.samples()[0], out.samples()[0]);
+    }
+
+    @Test
+    void toChannels_duplicatesMono_andAveragesToMono() {
+        var mono = new Pcm(RATE, 1, new float[]{0.2f, -0.4f});
+        var stereo = PcmProcessing.toChannels(mono, 2);
+        assertArrayEquals(new float[]{0.2f, 0.2f, -0.4f, -0.4f}, stereo.samples());
+
+        var back = PcmProcessing.toChannels(new Pcm(RATE, 2, new float[]{0.2f, 0.4f}), 1);
+        assertArrayEquals(new float[]{0.3f}, back.samples(), 1e-6f);
+    }
+
+    @Test
+    void normalize_reachesTargetRms_unlessPeakCeilingLimits() {
+        var quiet = new Pcm(RATE, 1, tone(8_000, 0.01f));
+        var loud = PcmProcessing.normalize(quiet, -18, -1, -120);
+        assertEquals(-18, 20 * Math.log10(rms(loud.samples())), 0.1);
+
+        // quiet tone plus one spike: raising RMS to -18 dB would clip, so the peak ceiling wins
+        float[] spiky = tone(8_000, 0.01f);
+        spiky[100] = 0.5f;
+        var limited = PcmProcessing.normalize(new Pcm(RATE, 1, spiky), -18, -1, -60);
+        assertEquals(PcmProcessing.dbToAmplitude(-1), limited.samples()[100], 1e-4);
+    }
+
+    @Test
+    void bytes16_roundTrip() {
+        var pcm = new Pcm(RATE, 2, new float[]{0f, 0.5f, -0.5f, 1f});
+        var back = Pcm.fromBytes16(pcm.format16(), pcm.toBytes16());
+        assertArrayEquals(pcm.samples(), back.samples(), 1e-4f);
+    }
+
+    private static float[] tone(int n, float amplitude) {
+        float[] s = new float[n];
+        for (int i = 0; i < n; i++) s[i] = (float) (amplitude * Math.sin(2 * Math.PI * 440 * i / RATE));
+        return s;
+    }
+
+    private static float[] silence(int n) {
+        return new float[n];
+    }
+
+    private static float[] concat(float[]... parts) {
+        int len = 0;
+        for (var p : parts) len += p.length;
+        float[] out = new float[len];
+        int i = 0;
+        for (var p : parts) {
+            System.arraycopy(p, 0, out, i, p.length);
+            i += p.length;
+        }
+        return out;
+    }
+
+    private static double rms(float[] s) {
+        double sum = 0;
+        for (float v : s) sum += v * v;
+        return Math.sqrt(sum / s.length);
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.backend.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.backend.config.WeatherProperties;
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherCodecTest {
+
+    private final WeatherCodec codec = new WeatherCodec(new WeatherProperties(51.938, 8.875, "Europe/Berlin"));
+
+    @Test
+    void cbor_roundTrip_usesEpochSecondsInForecastZone() throws Exception {
+        var frame = codec.decode(codec.cbor(sampleSnapshot()));
+
+        assertEquals(OffsetDateTime.parse("2025-09-10T08:00:00+02:00").toEpochSecond(), frame.t());
+        assertEquals(21, frame.d0().hi());
+        assertEquals(0.3, frame.d0().ps());
+        assertEquals(70, frame.d0().px());
+        // 06:54 CEST == 04:54 UTC
+        assertEquals(OffsetDateTime.parse("2025-09-10T04:54:00Z").toEpochSecond(), frame.d0().sr());
+        assertEquals(61, frame.d1().c());
+        assertNull(frame.d1().ss());
+    }
+
+    @Test
+    void cbor_isEncodedOncePerSnapshot() {
+        var snap = sampleSnapshot();
+        byte[] first = codec.cbor(snap);
+
+        assertSame(first, codec.cbor(snap));
+        assertNotSame(first, codec.cbor(sampleSnapshot()));
+    }
+
+    @Test
+    void cbor_isSmallerThanJson() throws Exception {
+        var json = new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsBytes(sampleSnapshot());
+
+        assertTrue(codec.cbor(sampleSnapshot()).length < json.length / 2,
+                "cbor=" + codec.cbor(sampleSnapshot()).length + " json=" + json.length);
+    }
+
+    private static WeatherSnapshot sampleSnapshot() {
+        var today = new WeatherSnapshot.Day(21, 12, 0.3, 2, 40, 70,
+                "2025-09-10T06:54", "2025-09-10T19:43");
+        var tomorrow = new WeatherSnapshot.Day(18, 10, 2.1, 61, 60, 80,
+                "2025-09-11T06:56", null);
+        return new WeatherSnapshot(OffsetDateTime.parse("2025-09-10T08:00:00+02:00"), today, tomorrow);
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.backend.codec;
+
+import org.example.backend.alert.AlertsChangedEvent;
+import org.example.backend.config.WeatherProperties;
+import org.example.backend.model.alert.Alert;
+import org.example.backend.model.alert.AlertFrame;
+import org.example.backend.model.alert.AlertTransition;
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.example.backend.service.WeatherService;
+import org.example.backend.service.WeatherUpdatedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WeatherSocketHandlerTest {
+
+    private final WeatherService service = mock(WeatherService.class);
+    private final WeatherCodec codec = new WeatherCodec(new WeatherProperties(51.938, 8.875, "Europe/Berlin"));
+    private final WeatherSocketHandler handler = new WeatherSocketHandler(service, codec);
+
+    @Test
+    void connect_sendsCurrentFrame() throws Exception {
+        var snap = sampleSnapshot(21);
+        when(service.snapshot()).thenReturn(snap);
+        var session = session("s1");
+
+        handler.afterConnectionEstablished(session);
+
+        var sent = captureSent(session, 1);
+        assertEquals(21, codec.decode(sent).d0().hi());
+    }
+
+    @Test
+    void update_isFannedOut_andClosedOrBrokenSessionsAreDropped() throws Exception {
+        var ok = session("ok");
+        var broken = session("broken");
+        var closed = session("closed");
+        doThrow(new IOException("gone")).when(broken).sendMessage(any());
+        handler.afterConnectionEstablished(ok);
+        handler.afterConnectionEstablished(broken);
+        handler.afterConnectionEstablished(closed);
+        handler.afterConnectionClosed(closed, CloseStatus.NORMAL);
+
+        handler.onWeatherUpdated(new WeatherUpdatedEvent(sampleSnapshot(18)));
+        handler.onWeatherUpdated(new WeatherUpdatedEvent(sampleSnapshot(19)));
+
+        verify(ok, times(2)).sendMessage(any(BinaryMessage.class));
+        verify(broken, times(1)).sendMessage(any(BinaryMessage.class));
+        verify(closed, never()).sendMessage(any());
+    }
+
+    @Test
+    void update_dropsSessionOverItsSendLimit_andReachesTheRest() throws Exception {
+        var slow = session("slow");
+        var others = new WebSocketSession[] { session("a"), session("b"), session("c") };
+        doThrow(new SessionLimitExceededException("buffer full", CloseStatus.SESSION_NOT_RELIABLE))
+                .when(slow).sendMessage(any());
+        handler.afterConnectionEstablished(slow);
+        for (var s : others) handler.afterConnectionEstablished(s);
+
+        assertDoesNotThrow(() -> handler.onWeatherUpdated(new WeatherUpdatedEvent(sampleSnapshot(18))));
+        handler.onWeatherUpdated(new WeatherUpdatedEvent(sampleSnapshot(19)));
+
+        for (var s : others) verify(s, times(2)).sendMessage(any(BinaryMessage.class));
+        verify(slow, times(1)).sendMessage(any(BinaryMessage.class));
+        verify(slow).close(CloseStatus.SESSION_NOT_RELIABLE);
+        for (var s : others) verify(s, never()).close(any());
+    }
+
+    @Test
+    void alertTransitions_areSentAsAnAlertFrame() throws Exception {
+        var session = session("s1");
+        handler.afterConnectionEstablished(session);
+        var rain = new Alert("rain", "today.precipProbMax >= 60", "Schirm mitnehmen");
+        var at = OffsetDateTime.parse("2025-09-10T08:00:00+02:00");
+
+        handler.onAlertsChanged(new AlertsChangedEvent(List.of(rain),
+                List.of(new AlertTransition(AlertTransition.State.RAISED, rain, 70.0, at))));
+
+        var frame = codec.decodeAlerts(captureSent(session, 1));
+        assertEquals(List.of(new AlertFrame.Change("rain", true, "Schirm mitnehmen", 70.0, at.toEpochSecond())),
+                frame.a());
+    }
+
+    private static WebSocketSession session(String id) {
+        var s = mock(WebSocketSession.class);
+        when(s.getId()).thenReturn(id);
+        when(s.isOpen()).thenReturn(true);
+        return s;
+    }
+
+    private static byte[] captureSent(WebSocketSession session, int times) throws IOException {
+        var captor = org.mockito.ArgumentCaptor.forClass(BinaryMessage.class);
+        verify(session, times(times)).sendMessage(captor.capture());
+        var buf = captor.getValue().getPayload();
+        byte[] bytes = new byte[buf.remaining()];
+        buf.get(bytes);
+        return bytes;
+    }
+
+    private static WeatherSnapshot sampleSnapshot(int max) {
+        var day = new WeatherSnapshot.Day(max, 12, 0.3, 2, 40, 70, "2025-09-10T06:54", "2025-09-10T19:43");
+        return new WeatherSnapshot(OffsetDateTime.parse("2025-09-10T08:00:00+02:00"), day, day);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.backend.controller;
+
+import org.example.backend.config.WeatherProperties;
+import org.example.backend.sun.SunService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SunController.class)
+@Import(SunControllerTest.Config.class)
+class SunControllerTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        SunService sunService() {
+            return new SunService(new WeatherProperties(51.938, 8.875, "Europe/Berlin"));
+        }
+    }
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void range_returnsOneEntryPerDay() throws Exception {
+        mvc.perform(get("/api/sun").param("from", "2025-09-10").param("to", "2025-09-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].date", is("2025-09-10")))
+                .andExpect(jsonPath("$[0].sunrise", is("2025-09-10T06:51")))
+                .andExpect(jsonPath("$[2].date", is("2025-09-12")));
+    }
+
+    @Test
+    void withoutParameters_returnsToday() throws Exception {
+        mvc.perform(get("/api/sun"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void invalidRange_is400() throws Exception {
+        mvc.perform(get("/api/sun").param("from", "2025-09-12").param("to", "2025-09-10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("invalid_range")));
+        mvc.perform(get("/api/sun").param("from", "2025-01-01").param("to", "2026-12-31"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.backend.controller;
+
+import org.example.backend.config.VisitorProperties;
+import org.example.backend.visitor.VisitorFrames;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(VisitorController.class)
+@Import(VisitorControllerTest.Config.class)
+class VisitorControllerTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        VisitorProperties visitorProperties() {
+            return new VisitorProperties(5, 64 * 1024, 32, 1, 1 << 20);
+        }
+
+        @Bean
+        VisitorFrames visitorFrames(VisitorProperties props, ApplicationEventPublisher events) {
+            return new VisitorFrames(props, events);
+        }
+    }
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private VisitorFrames frames;
+
+    @Test
+    void postedFrame_isListed_andServedImmutable_with304OnRevalidation() throws Exception {
+        byte[] jpeg = jpeg();
+        mvc.perform(post("/api/visitors/frames").contentType(MediaType.IMAGE_JPEG).content(jpeg))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, startsWith("/api/visitors/frames/")))
+                .andExpect(jsonPath("$.bytes", is(jpeg.length)));
+
+        var frame = frames.recent().get(0);
+        frame.thumbnail().get(5, TimeUnit.SECONDS);
+        String url = "/api/visitors/frames/" + frame.key();
+
+        mvc.perform(get("/api/visitors/frames"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$[0].id", is(frame.key())))
+                .andExpect(jsonPath("$[0].frame", is(url)))
+                .andExpect(jsonPath("$[0].thumbnail", is(url + "/thumbnail")));
+
+        mvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_JPEG))
+                .andExpect(content().bytes(jpeg))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"f" + frame.key() + "\""));
+        mvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, "\"f" + frame.key() + "\""))
+                .andExpect(status().isNotModified());
+
+        mvc.perform(get(url + "/thumbnail"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"t" + frame.key() + "\""));
+    }
+
+    @Test
+    void rejectsNonJpeg_oversized_andUnknownIds() throws Exception {
+        mvc.perform(post("/api/visitors/frames").contentType(MediaType.IMAGE_JPEG).content("nope".getBytes()))
+                .andExpect(status().isUnsupportedMediaType())
+                .andExpect(jsonPath("$.error", is("not_jpeg")));
+        mvc.perform(post("/api/visitors/frames").contentType(MediaType.IMAGE_JPEG).content(new byte[65 * 1024]))
+                .andExpect(status().isPayloadTooLarge());
+        mvc.perform(get("/api/visitors/frames/1"))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/visitors/frames/" + frames.add(jpeg()).id()))
+                .andExpect(status().isNotFound());
+    }
+
+    private static byte[] jpeg() throws Exception {
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(96, 64, BufferedImage.TYPE_INT_RGB), "jpeg", out);
+        return out.toByteArray();
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.backend.controller;
 
+import org.example.backend.codec.WeatherCodec;
 import org.example.backend.model.weather.WeatherSnapshot;
 import org.example.backend.service.WeatherService;
 import org.example.backend.service.WeatherStreamBroadcaster;
@@ -17,6 +18,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.io.IOException;
 import java.time.OffsetDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -35,6 +37,9 @@ class WeatherControllerTest {
     @MockitoBean
     private WeatherStreamBroadcaster broadcaster;
 
+    @Autowired
+    private WeatherCodec codec;
+
     @BeforeEach
     void setUp() throws IOException {
         var today = new WeatherSnapshot.Day(
@@ -89,6 +94,18 @@ class WeatherControllerTest {
                 .andExpect(jsonPath("$.tomorrow.code").value(61));
     }
 
+    @Test
+    void get_withAcceptCbor_returnsCompactFrame() throws Exception {
+        var bytes = mockMvc.perform(get("/api/weather").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var frame = codec.decode(bytes);
+        assertEquals(21, frame.d0().hi());
+        assertEquals(61, frame.d1().c());
+    }
+
     @Test
     void stream_registersEmitter_andReturnsEventStream() throws Exception {
         var mvcResult = mockMvc.perform(
@@ -0,0 +1,123 @@
+package org.example.backend.dashboard;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.backend.audio.PreparedChime;
+import org.example.backend.model.SoundSource;
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.example.backend.service.ChimeRungEvent;
+import org.example.backend.service.ChimeService;
+import org.example.backend.service.WeatherService;
+import org.example.backend.service.WeatherUpdatedEvent;
+import org.example.backend.visitor.VisitorFrame;
+import org.example.backend.visitor.VisitorFrameEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFormat;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardViewTest {
+
+    private static final String MP3 = "sounds/doorbell.mp3";
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ChimeService chime = mock(ChimeService.class);
+    private final WeatherService weather = mock(WeatherService.class);
+    private DashboardView view;
+
+    @BeforeEach
+    void setUp() {
+        when(chime.resolveSource()).thenReturn(Optional.of(new SoundSource(MP3, true)));
+        when(chime.prepared(MP3)).thenReturn(Optional.of(
+                new PreparedChime(new AudioFormat(48_000, 16, 2, true, false), new byte[4], false)));
+        view = new DashboardView(mapper, chime, weather);
+        view.init();
+    }
+
+    @Test
+    void startsWithChimeState_beforeAnyWeather() throws IOException {
+        var json = json();
+        assertTrue(json.get("weather").isNull());
+        assertEquals(MP3, json.at("/chime/source").asText());
+        assertTrue(json.at("/chime/prepared").asBoolean());
+        assertEquals(0, json.get("rings").size());
+    }
+
+    @Test
+    void events_updateTheirPart_andTheEtag() throws IOException {
+        String etag = view.current().etag();
+
+        var day = new WeatherSnapshot.Day(21, 12, 0.3, 2, 40, 70, "2025-09-10T06:51", "2025-09-10T19:50");
+        view.onWeather(new WeatherUpdatedEvent(
+                new WeatherSnapshot(OffsetDateTime.parse("2025-09-10T08:00:00+02:00"), day, day)));
+        assertNotEquals(etag, view.current().etag());
+        assertEquals(21, json().at("/weather/today/max").asInt());
+
+        etag = view.current().etag();
+        view.onRing(new ChimeRungEvent(Instant.parse("2025-09-10T06:00:00Z"), MP3));
+        assertNotEquals(etag, view.current().etag());
+        assertEquals("2025-09-10T06:00:00Z", json().at("/chime/lastRingAt").asText());
+        assertEquals(21, json().at("/weather/today/max").asInt(), "weather part kept");
+    }
+
+    @Test
+    void events_onlyMarkStale_andTheNextRequestRendersOnce() throws IOException {
+        var spied = spy(mapper);
+        var lazy = new DashboardView(spied, chime, weather);
+        lazy.init();
+        for (int i = 0; i < 3; i++) {
+            lazy.onRing(new ChimeRungEvent(Instant.parse("2025-09-10T06:00:00Z").plusSeconds(i), MP3));
+        }
+        verify(spied, never()).writeValueAsBytes(any());
+
+        var first = lazy.current();
+        assertSame(first, lazy.current());
+        verify(spied, times(1)).writeValueAsBytes(any());
+        assertEquals(3, mapper.readTree(first.json()).get("rings").size());
+    }
+
+    @Test
+    void rings_areNewestFirst_andCapped() throws IOException {
+        var start = Instant.parse("2025-09-10T06:00:00Z");
+        for (int i = 0; i < DashboardView.MAX_RINGS + 3; i++) {
+            view.onRing(new ChimeRungEvent(start.plusSeconds(i), MP3));
+        }
+        var rings = json().get("rings");
+        assertEquals(DashboardView.MAX_RINGS, rings.size());
+        assertEquals(start.plusSeconds(DashboardView.MAX_RINGS + 2).toString(), rings.get(0).get("at").asText());
+    }
+
+    @Test
+    void lastVisitor_ignoresOlderFrames_andPicksUpTheThumbnail() throws IOException {
+        var newer = frame(200);
+        view.onVisitorFrame(new VisitorFrameEvent(newer));
+        view.onVisitorFrame(new VisitorFrameEvent(frame(100)));
+        assertEquals("200-boot", json().at("/lastVisitor/id").asText());
+        assertTrue(json().at("/lastVisitor/thumbnail").isNull());
+
+        newer.thumbnail().complete(new byte[]{1});
+        view.onVisitorFrame(new VisitorFrameEvent(newer));
+        assertEquals("/api/visitors/frames/200-boot/thumbnail", json().at("/lastVisitor/thumbnail").asText());
+    }
+
+    private static VisitorFrame frame(long id) {
+        return new VisitorFrame(id, id + "-boot", Instant.ofEpochMilli(id), new byte[]{(byte) 0xFF, (byte) 0xD8},
+                new CompletableFuture<>());
+    }
+
+    private JsonNode json() throws IOException {
+        return mapper.readTree(view.current().json());
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.backend.load;
+
+import org.example.backend.alert.AlertService;
+import org.example.backend.config.AlertProperties;
+import org.example.backend.config.WeatherProperties;
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.example.backend.service.WeatherStreamBroadcaster;
+import org.example.backend.service.WeatherUpdatedEvent;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cost of one alert evaluation per refresh as the rule count grows. Snapshots alternate between values
+ * that cross no threshold, so this is the evaluation alone, without pushes.
+ */
+@Tag("load")
+class AlertRulesBenchmark {
+
+    private static final String[] METRICS = {"max", "min", "precipSum", "code", "precipProbMean", "precipProbMax"};
+    private static final int EVALUATIONS = 200_000;
+
+    @Test
+    void evaluationCostByRuleCount() throws Exception {
+        var report = new LoadReport("alert-rules");
+        Map<String, Object> nanos = new LinkedHashMap<>();
+        for (int count : new int[]{8, 64, 512, 4096}) {
+            nanos.put(Integer.toString(count), measure(count));
+        }
+        report.put("evaluations", EVALUATIONS).put("nanosPerEvaluation", nanos);
+        System.out.println("alert rule report written to " + report.write().toAbsolutePath());
+    }
+
+    private static double measure(int count) {
+        List<AlertProperties.Rule> rules = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String day = i % 2 == 0 ? "today" : "tomorrow";
+            String op = i % 3 == 0 ? "<=" : ">=";
+            rules.add(new AlertProperties.Rule("r" + i,
+                    day + "." + METRICS[i % METRICS.length] + " " + op + " " + (i % 100), null, null));
+        }
+        var service = new AlertService(new AlertProperties(rules),
+                new WeatherProperties(51.938, 8.875, "Europe/Berlin"),
+                new WeatherStreamBroadcaster(), e -> {});
+        var a = new WeatherUpdatedEvent(snap(50.2));
+        var b = new WeatherUpdatedEvent(snap(50.7));
+        service.onWeather(a);
+
+        for (int i = 0; i < EVALUATIONS; i++) service.onWeather(i % 2 == 0 ? b : a);
+        long t0 = System.nanoTime();
+        for (int i = 0; i < EVALUATIONS; i++) service.onWeather(i % 2 == 0 ? b : a);
+        return Math.round((System.nanoTime() - t0) * 10.0 / EVALUATIONS) / 10.0;
+    }
+
+    private static WeatherSnapshot snap(double precip) {
+        var day = new WeatherSnapshot.Day(50, 50, precip, 50, 50, 50, null, null);
+        return new WeatherSnapshot(OffsetDateTime.now(), day, day);
+    }
+}
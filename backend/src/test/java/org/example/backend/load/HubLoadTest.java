@@ -0,0 +1,278 @@
+package org.example.backend.load;
+
+import org.example.backend.model.SoundSource;
+import org.example.backend.service.ChimeService;
+import org.example.backend.service.WeatherService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test against a locally booted hub and an embedded Open-Meteo stub.
+ * Not part of the regular build; run with {@code mvn -Pload-test test}.
+ * Sizes are tunable via system properties, e.g. {@code -Dload.clients=5000};
+ * {@code -Dload.virtual-threads=true} runs the hub in virtual-thread mode (report {@code hub-load-virtual}).
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.shutdown=immediate",
+                "spring.threads.virtual.enabled=${load.virtual-threads:false}"
+        })
+class HubLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 2_000);
+    private static final int CONNECT_BATCH = Integer.getInteger("load.connect-batch", 250);
+    private static final int ROUNDS = Integer.getInteger("load.rounds", 10);
+    private static final int CHIME_BURSTS = Integer.getInteger("load.chime.bursts", 5);
+    private static final int CHIME_BURST_SIZE = Integer.getInteger("load.chime.burst-size", 200);
+    private static final Duration WAIT = Duration.ofSeconds(Long.getLong("load.wait-seconds", 60));
+    private static final boolean VIRTUAL = Boolean.getBoolean("load.virtual-threads");
+
+    private static final Pattern TODAY_MAX = Pattern.compile("\"today\":\\{\"max\":(-?\\d+)");
+
+    private static final OpenMeteoStub STUB = startStub();
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    WeatherService weather;
+
+    @MockitoBean
+    ChimeService chime;
+
+    private final ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(clientExecutor)
+            .build();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("hub.open-meteo.base-url", STUB::baseUrl);
+        registry.add("hub.weather.initial-delay-ms", () -> 3_600_000);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    void sseFanOutAndChimeBursts() throws Exception {
+        var report = new LoadReport(VIRTUAL ? "hub-load-virtual" : "hub-load");
+        report.put("settings", Map.of(
+                "virtualThreads", VIRTUAL,
+                "clients", CLIENTS,
+                "rounds", ROUNDS,
+                "chimeBursts", CHIME_BURSTS,
+                "chimeBurstSize", CHIME_BURST_SIZE));
+
+        STUB.marker(0);
+        weather.refresh();
+        System.gc();
+        report.put("runtimeBaseline", LoadReport.runtime());
+
+        List<SseClient> clients = new ArrayList<>(CLIENTS);
+        long connectStart = System.nanoTime();
+        try {
+            for (int i = 0; i < CLIENTS; i += CONNECT_BATCH) {
+                int n = Math.min(CONNECT_BATCH, CLIENTS - i);
+                var connected = new CountDownLatch(n);
+                for (int k = 0; k < n; k++) {
+                    clients.add(SseClient.open(http, uri("/api/weather/stream"), connected));
+                }
+                assertTrue(connected.await(WAIT.toSeconds(), TimeUnit.SECONDS),
+                        "SSE clients did not connect: " + connected.getCount() + " missing");
+            }
+            report.put("connectMs", LoadReport.millis(System.nanoTime() - connectStart));
+            report.put("runtimeConnected", LoadReport.runtime());
+
+            report.put("weatherFanOut", fanOut(clients));
+            report.put("chimeBursts", chimeBursts());
+            report.put("runtimeAfter", LoadReport.runtime());
+        } finally {
+            clients.forEach(SseClient::cancel);
+            http.shutdownNow();
+            clientExecutor.shutdownNow();
+        }
+        report.put("upstreamRequests", STUB.requests());
+
+        System.out.println("load report written to " + report.write().toAbsolutePath());
+    }
+
+    private Map<String, Object> fanOut(List<SseClient> clients) throws InterruptedException {
+        long[] delivery = new long[ROUNDS * clients.size()];
+        long[] refreshCall = new long[ROUNDS];
+        long[] complete = new long[ROUNDS];
+        int d = 0;
+        for (int round = 1; round <= ROUNDS; round++) {
+            var received = new CountDownLatch(clients.size());
+            for (SseClient c : clients) {
+                c.expect(round, received);
+            }
+            STUB.marker(round);
+
+            long t0 = System.nanoTime();
+            weather.refresh();
+            refreshCall[round - 1] = System.nanoTime() - t0;
+
+            assertTrue(received.await(WAIT.toSeconds(), TimeUnit.SECONDS),
+                    "round " + round + ": " + received.getCount() + " clients missed the update");
+            long last = 0;
+            for (SseClient c : clients) {
+                long latency = c.arrival() - t0;
+                delivery[d++] = latency;
+                last = Math.max(last, latency);
+            }
+            complete[round - 1] = last;
+        }
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("deliveryLatency", LoadReport.latency(delivery));
+        m.put("refreshCall", LoadReport.latency(refreshCall));
+        m.put("fanOutComplete", LoadReport.latency(complete));
+        return m;
+    }
+
+    private Map<String, Object> chimeBursts() throws Exception {
+        when(chime.resolveSource()).thenReturn(Optional.of(new SoundSource("sounds/doorbell.wav", false)));
+
+        var request = HttpRequest.newBuilder(uri("/api/chime/play"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        long[] latency = new long[CHIME_BURSTS * CHIME_BURST_SIZE];
+        long[] burstWall = new long[CHIME_BURSTS];
+        int failures = 0;
+        int i = 0;
+        for (int b = 0; b < CHIME_BURSTS; b++) {
+            List<CompletableFuture<long[]>> inFlight = new ArrayList<>(CHIME_BURST_SIZE);
+            long burstStart = System.nanoTime();
+            for (int k = 0; k < CHIME_BURST_SIZE; k++) {
+                long start = System.nanoTime();
+                inFlight.add(http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .thenApply(r -> new long[]{System.nanoTime() - start, r.statusCode()}));
+            }
+            for (var f : inFlight) {
+                long[] r = f.get(WAIT.toSeconds(), TimeUnit.SECONDS);
+                latency[i++] = r[0];
+                if (r[1] != 200) failures++;
+            }
+            burstWall[b] = System.nanoTime() - burstStart;
+        }
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("requestLatency", LoadReport.latency(latency));
+        m.put("burstWall", LoadReport.latency(burstWall));
+        m.put("failures", failures);
+        return m;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static OpenMeteoStub startStub() {
+        try {
+            return new OpenMeteoStub();
+        } catch (IOException e) {
+            throw new IllegalStateException("could not start Open-Meteo stub", e);
+        }
+    }
+
+    /** One SSE connection; records when the event carrying the expected marker arrives. */
+    private static final class SseClient implements Flow.Subscriber<String> {
+
+        private final CountDownLatch connected;
+        private volatile Flow.Subscription subscription;
+        private volatile boolean seenFirst;
+        private volatile int expected = -1;
+        private volatile CountDownLatch received;
+        private volatile long arrival;
+
+        private SseClient(CountDownLatch connected) {
+            this.connected = connected;
+        }
+
+        static SseClient open(HttpClient http, URI uri, CountDownLatch connected) {
+            var client = new SseClient(connected);
+            var req = HttpRequest.newBuilder(uri).header("Accept", "text/event-stream").GET().build();
+            http.sendAsync(req, HttpResponse.BodyHandlers.fromLineSubscriber(client));
+            return client;
+        }
+
+        void expect(int marker, CountDownLatch latch) {
+            received = latch;
+            expected = marker;
+        }
+
+        long arrival() {
+            return arrival;
+        }
+
+        void cancel() {
+            var s = subscription;
+            if (s != null) s.cancel();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            subscription = s;
+            s.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (!line.startsWith("data:")) return;
+            long now = System.nanoTime();
+            if (!seenFirst) {
+                seenFirst = true;
+                connected.countDown();
+            }
+            Matcher m = TODAY_MAX.matcher(line);
+            if (m.find() && Integer.parseInt(m.group(1)) == expected) {
+                expected = -1;
+                arrival = now;
+                received.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            // connection closed; a missing client shows up as a timed-out latch
+        }
+
+        @Override
+        public void onComplete() {
+            // server completed the stream
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.backend.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects the results of one load-test run and writes them as JSON to {@code load.report-dir}
+ * (default {@code target/load-reports}).
+ */
+class LoadReport {
+
+    private final String name;
+    private final Map<String, Object> root = new LinkedHashMap<>();
+
+    LoadReport(String name) {
+        this.name = name;
+        root.put("scenario", name);
+        root.put("startedAt", Instant.now().toString());
+        root.put("java", Runtime.version().toString());
+        root.put("cpus", Runtime.getRuntime().availableProcessors());
+    }
+
+    LoadReport put(String key, Object value) {
+        root.put(key, value);
+        return this;
+    }
+
+    Path write() throws IOException {
+        Path dir = Path.of(System.getProperty("load.report-dir", "target/load-reports"));
+        Files.createDirectories(dir);
+        Path file = dir.resolve(name + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), root);
+        return file;
+    }
+
+    /** Percentile summary (milliseconds) of a set of nanosecond samples. */
+    static Map<String, Object> latency(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("samples", sorted.length);
+        if (sorted.length == 0) {
+            return m;
+        }
+        m.put("minMs", millis(sorted[0]));
+        m.put("p50Ms", millis(percentile(sorted, 50)));
+        m.put("p90Ms", millis(percentile(sorted, 90)));
+        m.put("p99Ms", millis(percentile(sorted, 99)));
+        m.put("p999Ms", millis(percentile(sorted, 99.9)));
+        m.put("maxMs", millis(sorted[sorted.length - 1]));
+        return m;
+    }
+
+    static long percentile(long[] sorted, double p) {
+        int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.clamp(idx, 0, sorted.length - 1)];
+    }
+
+    static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    /** Heap, thread and RSS figures of the current JVM (client and server share it in these tests). */
+    static Map<String, Object> runtime() {
+        var mem = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        var threads = ManagementFactory.getThreadMXBean();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("heapUsedMb", mem.getUsed() / (1024 * 1024));
+        m.put("heapCommittedMb", mem.getCommitted() / (1024 * 1024));
+        m.put("threadsLive", threads.getThreadCount());
+        m.put("threadsPeak", threads.getPeakThreadCount());
+        m.put("rssMb", rssMb());
+        return m;
+    }
+
+    private static Long rssMb() {
+        Path status = Path.of("/proc/self/status");
+        if (!Files.isReadable(status)) {
+            return null;
+        }
+        try (var lines = Files.lines(status)) {
+            return lines.filter(l -> l.startsWith("VmRSS:"))
+                    .map(l -> Long.parseLong(l.replaceAll("\\D", "")) / 1024)
+                    .findFirst()
+                    .orElse(null);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.backend.load;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal local stand-in for {@code /v1/forecast}. The value returned as today's max temperature is
+ * controlled by the test, so every refresh can be recognised on the client side.
+ */
+class OpenMeteoStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "open-meteo-stub");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicInteger marker = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+
+    OpenMeteoStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v1/forecast", exchange -> {
+            requests.incrementAndGet();
+            byte[] body = body(marker.get()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    void marker(int value) {
+        marker.set(value);
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    private static String body(int max) {
+        return """
+                {"daily":{
+                  "time":["2025-09-10","2025-09-11"],
+                  "temperature_2m_max":[%d,18],
+                  "temperature_2m_min":[12,10],
+                  "precipitation_sum":[0.3,2.1],
+                  "weathercode":[2,61],
+                  "sunrise":["2025-09-10T06:54","2025-09-11T06:56"],
+                  "sunset":["2025-09-10T19:43","2025-09-11T19:41"],
+                  "precipitation_probability_mean":[40,60],
+                  "precipitation_probability_max":[70,80]
+                }}""".formatted(max);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
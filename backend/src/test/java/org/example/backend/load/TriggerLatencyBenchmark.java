@@ -0,0 +1,161 @@
+package org.example.backend.load;
+
+import org.example.backend.model.SoundSource;
+import org.example.backend.service.ChimeService;
+import org.example.backend.trigger.TriggerPacket;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Trigger-to-dispatch latency (client send until {@code ChimeService.playAsync} is entered) of the UDP
+ * trigger against {@code POST /api/chime/play}. This is the transport and stack share of trigger-to-sound; what
+ * {@code playAsync} itself adds (starting the pre-opened clip) and the device's output buffer are not measured.
+ * Run with {@code mvn -Pload-test test}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.shutdown=immediate",
+                "hub.weather.initial-delay-ms=3600000",
+                "hub.trigger.udp.enabled=true",
+                "hub.trigger.udp.bind-address=127.0.0.1",
+                "hub.trigger.udp.secret=" + TriggerLatencyBenchmark.SECRET,
+                "logging.level.org.example.backend=WARN"
+        })
+class TriggerLatencyBenchmark {
+
+    static final String SECRET = "benchmark";
+
+    private static final int ITERATIONS = Integer.getInteger("load.trigger.iterations", 2_000);
+    private static final int UDP_PORT = freeUdpPort();
+    private static final BlockingQueue<Long> DISPATCHED = new LinkedBlockingQueue<>();
+
+    @LocalServerPort
+    int port;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("hub.trigger.udp.port", () -> UDP_PORT);
+    }
+
+    @TestConfiguration
+    static class RecordingChime {
+        @Bean
+        @Primary
+        ChimeService recordingChimeService() {
+            return new ChimeService() {
+                @Override
+                public void playAsync(SoundSource src) {
+                    DISPATCHED.add(System.nanoTime());
+                }
+            };
+        }
+    }
+
+    @Test
+    void udpVersusHttp() throws Exception {
+        var udp = udpPath();
+        var http = httpPath();
+
+        var file = new LoadReport("trigger-latency")
+                .put("iterations", ITERATIONS)
+                .put("udp", udp)
+                .put("http", http)
+                .write();
+        System.out.println("trigger latency report written to " + file.toAbsolutePath());
+    }
+
+    private Map<String, Object> udpPath() throws Exception {
+        var mac = TriggerPacket.mac(SECRET);
+        var target = new InetSocketAddress("127.0.0.1", UDP_PORT);
+        long[] dispatch = new long[ITERATIONS];
+        long[] roundTrip = new long[ITERATIONS];
+        try (var device = DatagramChannel.open().bind(new InetSocketAddress("127.0.0.1", 0))) {
+            var ackBuf = ByteBuffer.allocate(64);
+            long counter = 0;
+            for (int i = -ITERATIONS; i < ITERATIONS; i++) {
+                byte[] packet = TriggerPacket.encodeTrigger(mac, ++counter, System.currentTimeMillis());
+                long t0 = System.nanoTime();
+                device.send(ByteBuffer.wrap(packet), target);
+                long dispatched = awaitDispatch();
+                ackBuf.clear();
+                device.receive(ackBuf);
+                long acked = System.nanoTime();
+                var ack = TriggerPacket.decodeAck(mac, ackBuf.flip());
+                assertNotNull(ack);
+                assertEquals(TriggerPacket.STATUS_OK, ack.status());
+                if (i >= 0) {
+                    dispatch[i] = dispatched - t0;
+                    roundTrip[i] = acked - t0;
+                }
+            }
+        }
+        return result(dispatch, roundTrip);
+    }
+
+    private Map<String, Object> httpPath() throws Exception {
+        long[] dispatch = new long[ITERATIONS];
+        long[] roundTrip = new long[ITERATIONS];
+        try (var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            var request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/chime/play"))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            for (int i = -ITERATIONS; i < ITERATIONS; i++) {
+                long t0 = System.nanoTime();
+                var response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                long answered = System.nanoTime();
+                assertEquals(200, response.statusCode());
+                long dispatched = awaitDispatch();
+                if (i >= 0) {
+                    dispatch[i] = dispatched - t0;
+                    roundTrip[i] = answered - t0;
+                }
+            }
+        }
+        return result(dispatch, roundTrip);
+    }
+
+    private static Map<String, Object> result(long[] dispatch, long[] roundTrip) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("triggerToDispatch", LoadReport.latency(dispatch));
+        m.put("roundTrip", LoadReport.latency(roundTrip));
+        return m;
+    }
+
+    private static long awaitDispatch() throws InterruptedException {
+        Long t = DISPATCHED.poll(5, TimeUnit.SECONDS);
+        assertNotNull(t, "chime was not dispatched");
+        return t;
+    }
+
+    private static int freeUdpPort() {
+        try (var probe = DatagramChannel.open().bind(new InetSocketAddress("127.0.0.1", 0))) {
+            return ((InetSocketAddress) probe.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
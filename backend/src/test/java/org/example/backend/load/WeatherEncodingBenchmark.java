@@ -0,0 +1,83 @@
+package org.example.backend.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.backend.codec.WeatherCodec;
+import org.example.backend.config.WeatherProperties;
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Size and decode-time comparison of the JSON snapshot against the CBOR {@code WeatherFrame}.
+ * Run with {@code mvn -Pload-test test}; tune with {@code -Dload.encoding.iterations}.
+ */
+@Tag("load")
+class WeatherEncodingBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("load.encoding.iterations", 200_000);
+
+    private final ObjectMapper json = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final WeatherProperties props = new WeatherProperties(51.938, 8.875, "Europe/Berlin");
+
+    @Test
+    void jsonVersusCbor() throws Exception {
+        var snap = sampleSnapshot();
+        byte[] jsonBytes = json.writeValueAsBytes(snap);
+        byte[] cborBytes = new WeatherCodec(props).cbor(snap);
+
+        Map<String, Object> sizes = new LinkedHashMap<>();
+        sizes.put("json", jsonBytes.length);
+        sizes.put("cbor", cborBytes.length);
+        sizes.put("ratio", Math.round(100.0 * cborBytes.length / jsonBytes.length) / 100.0);
+
+        var codec = new WeatherCodec(props);
+        // two distinct instances, so the codec's one-entry cache misses on every call
+        WeatherSnapshot[] alternating = {snap, sampleSnapshot()};
+        int[] n = {0};
+        Map<String, Object> nsPerOp = new LinkedHashMap<>();
+        nsPerOp.put("jsonEncode", measure(() -> json.writeValueAsBytes(snap)));
+        nsPerOp.put("cborEncode", measure(() -> codec.cbor(alternating[n[0]++ & 1])));
+        nsPerOp.put("cborEncodeCached", measure(() -> codec.cbor(snap)));
+        nsPerOp.put("jsonDecode", measure(() -> json.readValue(jsonBytes, WeatherSnapshot.class)));
+        nsPerOp.put("cborDecode", measure(() -> codec.decode(cborBytes)));
+
+        var file = new LoadReport("weather-encoding")
+                .put("iterations", ITERATIONS)
+                .put("bytes", sizes)
+                .put("nsPerOp", nsPerOp)
+                .write();
+        System.out.println("encoding report written to " + file.toAbsolutePath());
+
+        assertTrue(cborBytes.length < jsonBytes.length);
+    }
+
+    /** Average ns per call after an equally long warm-up. */
+    private static long measure(Callable<Object> op) throws Exception {
+        Object sink = null;
+        for (int i = 0; i < ITERATIONS; i++) sink = op.call();
+        long t0 = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) sink = op.call();
+        long ns = (System.nanoTime() - t0) / ITERATIONS;
+        if (sink == null) throw new IllegalStateException();
+        return ns;
+    }
+
+    private static WeatherSnapshot sampleSnapshot() {
+        var today = new WeatherSnapshot.Day(21, 12, 0.3, 2, 40, 70,
+                "2025-09-10T06:54", "2025-09-10T19:43");
+        var tomorrow = new WeatherSnapshot.Day(18, 10, 2.1, 61, 60, 80,
+                "2025-09-11T06:56", "2025-09-11T19:41");
+        return new WeatherSnapshot(OffsetDateTime.parse("2025-09-10T08:00:00+02:00"), today, tomorrow);
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.backend.peer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.backend.config.PeerProperties;
+import org.example.backend.config.WeatherProperties;
+import org.example.backend.model.weather.WeatherSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/** Several hubs in one JVM on one multicast group, as they would run on localhost. */
+class MulticastWeatherPeersTest {
+
+    private static final long TIMEOUT_MS = 400;
+
+    private final int port = ThreadLocalRandom.current().nextInt(46_000, 47_000);
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final List<PeerChannel> channels = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (var c : channels) c.close();
+    }
+
+    @Test
+    void lowestNodeLeads_followersGetItsSnapshot_andTakeOverWhenItGoesQuiet() throws Exception {
+        var a = hub("a");
+        var b = hub("b");
+        var c = hub("c");
+
+        boolean discovered = await(() -> {
+            heartbeatAll(a, b, c);
+            return b.peers.deferToLeader() && c.peers.deferToLeader();
+        });
+        assumeTrue(discovered, "no multicast delivery on this host");
+        assertFalse(a.peers.deferToLeader());
+
+        var snap = new WeatherSnapshot(OffsetDateTime.parse("2025-09-10T08:00:00+02:00"),
+                new WeatherSnapshot.Day(21, 12, 0.3, 2, 40, 70, "2025-09-10T06:54", "2025-09-10T19:43"),
+                null);
+        a.peers.publish(snap);
+        assertTrue(await(() -> b.received(PeerSnapshotEvent.class) && c.received(PeerSnapshotEvent.class)));
+        var received = b.first(PeerSnapshotEvent.class).snapshot();
+        assertTrue(snap.updatedAt().isEqual(received.updatedAt()));
+        assertEquals(snap.today(), received.today());
+
+        a.channel.close();
+        assertTrue(await(() -> {
+            heartbeatAll(b, c);
+            return !b.peers.deferToLeader();
+        }));
+        assertTrue(b.received(PeerLeaderLostEvent.class));
+        assertEquals("a", b.first(PeerLeaderLostEvent.class).previousLeader());
+        assertTrue(c.peers.deferToLeader(), "c now follows b");
+    }
+
+    private Hub hub(String node) throws IOException {
+        var props = new PeerProperties(true, "239.255.42.99", port, null, node, 100, TIMEOUT_MS);
+        var channel = new PeerChannel(props);
+        try {
+            channel.open();
+        } catch (IOException e) {
+            assumeTrue(false, "multicast unavailable here: " + e.getMessage());
+        }
+        channels.add(channel);
+        var events = new CopyOnWriteArrayList<>();
+        var weather = new WeatherProperties(51.938, 8.875, "Europe/Berlin");
+        return new Hub(channel, new MulticastWeatherPeers(channel, props, weather, mapper, events::add), events);
+    }
+
+    private static void heartbeatAll(Hub... hubs) {
+        for (var h : hubs) h.peers.heartbeat();
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) return false;
+            Thread.sleep(50);
+        }
+        return true;
+    }
+
+    private record Hub(PeerChannel channel, MulticastWeatherPeers peers, List<Object> events) {
+        boolean received(Class<?> type) {
+            return events.stream().anyMatch(type::isInstance);
+        }
+
+        <T> T first(Class<T> type) {
+            return events.stream().filter(type::isInstance).map(type::cast).findFirst().orElseThrow();
+        }
+    }
+}
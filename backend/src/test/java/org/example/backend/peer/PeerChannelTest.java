@@ -0,0 +1,52 @@
+package org.example.backend.peer;
+
+import org.example.backend.config.PeerProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PeerChannelTest {
+
+    private final PeerChannel channel = new PeerChannel(new PeerProperties(true, "239.255.42.99",
+            ThreadLocalRandom.current().nextInt(46_000, 47_000), null, "me", 2000, 7000));
+
+    @AfterEach
+    void tearDown() throws IOException {
+        channel.close();
+    }
+
+    @Test
+    void slowWeatherHandler_doesNotHoldUpClockDatagrams() throws Exception {
+        try {
+            channel.open();
+        } catch (IOException e) {
+            assumeTrue(false, "multicast unavailable here: " + e.getMessage());
+        }
+        var weatherStarted = new CountDownLatch(1);
+        var releaseWeather = new CountDownLatch(1);
+        var clock = new CountDownLatch(1);
+        channel.subscribe(PeerChannel.WEATHER, d -> {
+            weatherStarted.countDown();
+            try {
+                releaseWeather.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        channel.subscribe(PeerChannel.CLOCK, d -> clock.countDown());
+
+        channel.send(PeerChannel.WEATHER, new byte[]{1});
+        assumeTrue(weatherStarted.await(2, TimeUnit.SECONDS), "no multicast loopback on this host");
+        channel.send(PeerChannel.CLOCK, new byte[]{2});
+
+        assertTrue(clock.await(2, TimeUnit.SECONDS), "clock datagram delivered while weather is still handled");
+        releaseWeather.countDown();
+    }
+}
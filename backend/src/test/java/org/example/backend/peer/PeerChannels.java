@@ -0,0 +1,18 @@
+package org.example.backend.peer;
+
+import java.io.IOException;
+
+/** Opens and closes a {@link PeerChannel} outside a Spring context, for tests in other packages. */
+public final class PeerChannels {
+
+    private PeerChannels() {
+    }
+
+    public static void open(PeerChannel channel) throws IOException {
+        channel.open();
+    }
+
+    public static void close(PeerChannel channel) throws IOException {
+        channel.close();
+    }
+}
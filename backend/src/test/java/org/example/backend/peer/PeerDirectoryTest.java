@@ -0,0 +1,38 @@
+package org.example.backend.peer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PeerDirectoryTest {
+
+    private static final long TIMEOUT = 1_000;
+
+    @Test
+    void alone_weLead() {
+        var dir = new PeerDirectory(TIMEOUT);
+        assertEquals("b", dir.leader("b", 0));
+    }
+
+    @Test
+    void lowestLiveNodeLeads() {
+        var dir = new PeerDirectory(TIMEOUT);
+        dir.seen("c", 0);
+        dir.seen("a", 0);
+
+        assertEquals("a", dir.leader("b", 500));
+    }
+
+    @Test
+    void quietLeader_isDropped_andNextLowestTakesOver() {
+        var dir = new PeerDirectory(TIMEOUT);
+        dir.seen("a", 0);
+        dir.seen("c", 900);
+
+        assertEquals("a", dir.leader("b", 1_000));
+        assertEquals("b", dir.leader("b", 1_001));
+
+        dir.seen("a", 1_500);
+        assertEquals("a", dir.leader("b", 1_600));
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.backend.service;
 
 import javazoom.jl.player.Player;
+import org.example.backend.audio.PreparedChime;
 import org.example.backend.model.SoundSource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -98,4 +99,30 @@ class ChimeServicePlaybackTest {
             Thread.interrupted();
         }
     }
+
+    @Test
+    @DisplayName("playAsync(): vorbereiteter Chime -> vorab geöffneter Clip wird nur zurückgespult und gestartet")
+    void playAsync_prepared_restartsPreOpenedClip() throws Exception {
+        ChimeService service = new ChimeService();
+        var src = new SoundSource("sounds/doorbell.mp3", true);
+        var pcm = new PreparedChime(new AudioFormat(48_000, 16, 2, true, false), new byte[4 * 480], false);
+
+        try (MockedStatic<AudioSystem> audioMock = mockStatic(AudioSystem.class)) {
+            Clip clip = mock(Clip.class);
+            audioMock.when(AudioSystem::getClip).thenReturn(clip);
+
+            service.usePrepared(src.classpath(), pcm);
+            service.playAsync(src);
+            service.playAsync(src);
+
+            audioMock.verify(AudioSystem::getClip, times(1));
+            verify(clip, times(1)).open(pcm.format(), pcm.pcm(), 0, pcm.pcm().length);
+            verify(clip, times(2)).setFramePosition(0);
+            verify(clip, times(2)).start();
+            verify(clip, never()).close();
+
+            service.closeClips();
+            verify(clip).close();
+        }
+    }
 }
@@ -4,7 +4,10 @@ import org.example.backend.model.SoundSource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -33,4 +36,54 @@ class ChimeServiceSmokeTest {
 
         assertTrue(tookMs < 100, "playAsync should return quickly, took=" + tookMs + "ms");
     }
+
+    @Test
+    @DisplayName("playAsync: meldet den Klingelvorgang als ChimeRungEvent")
+    void playAsyncPublishesRing() {
+        List<Object> events = new ArrayList<>();
+        service.setApplicationEventPublisher(events::add);
+
+        service.playAsync(new SoundSource("sounds/__missing__.mp3", true));
+
+        assertEquals(1, events.size());
+        var ring = assertInstanceOf(ChimeRungEvent.class, events.getFirst());
+        assertEquals("sounds/__missing__.mp3", ring.source());
+    }
+
+    @Test
+    @DisplayName("playAsync: ein fehlschlagender Listener erreicht den Aufrufer nicht")
+    void playAsyncSurvivesFailingRingListener() {
+        service.setApplicationEventPublisher(event -> { throw new IllegalStateException("listener failed"); });
+
+        assertDoesNotThrow(() -> service.playAsync(new SoundSource("sounds/__missing__.mp3", true)));
+    }
+
+    @Test
+    @DisplayName("playAsync: Plattform-Thread im Normalbetrieb, virtueller Thread im Virtual-Thread-Modus")
+    void playAsyncUsesVirtualThreadsOnlyInVirtualMode() throws Exception {
+        var ran = new CompletableFuture<Thread>();
+        var recording = new ChimeService() {
+            @Override
+            void runPlayback(SoundSource src) {
+                ran.complete(Thread.currentThread());
+            }
+        };
+        var src = new SoundSource("sounds/__missing__.mp3", true);
+
+        recording.playAsync(src);
+        assertFalse(ran.get(5, TimeUnit.SECONDS).isVirtual());
+
+        var virtual = new CompletableFuture<Thread>();
+        var recordingVirtual = new ChimeService() {
+            @Override
+            void runPlayback(SoundSource s) {
+                virtual.complete(Thread.currentThread());
+            }
+        };
+        recordingVirtual.setVirtualThreads(true);
+        recordingVirtual.playAsync(src);
+        var thread = virtual.get(5, TimeUnit.SECONDS);
+        assertTrue(thread.isVirtual());
+        assertEquals("chime-player", thread.getName());
+    }
 }
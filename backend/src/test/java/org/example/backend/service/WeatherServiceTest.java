@@ -1,14 +1,21 @@
 package org.example.backend.service;
 
 import org.example.backend.client.openmeteo.OpenMeteoClient;
+import org.example.backend.config.WeatherProperties;
 import org.example.backend.model.weather.OpenMeteoDto;
 import org.example.backend.model.weather.WeatherSnapshot;
+import org.example.backend.peer.PeerLeaderLostEvent;
+import org.example.backend.peer.PeerSnapshotEvent;
+import org.example.backend.peer.WeatherPeers;
+import org.example.backend.sun.SunService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,9 +31,20 @@ class WeatherServiceTest {
     @Mock
     OpenMeteoClient meteo;
 
-    @InjectMocks
+    @Mock
+    WeatherPeers peers;
+
+    @Mock
+    ApplicationEventPublisher events;
+
     WeatherService service;
 
+    @BeforeEach
+    void setUp() {
+        var props = new WeatherProperties(51.938, 8.875, "Europe/Berlin");
+        service = new WeatherService(broadcaster, meteo, props, peers, events, new SunService(props));
+    }
+
     @Test
     void refresh_success_populatesCache_andBroadcasts() {
         var dto = new OpenMeteoDto(
@@ -47,6 +65,8 @@ class WeatherServiceTest {
         service.refresh();
 
         verify(broadcaster, times(1)).broadcast(any(WeatherSnapshot.class));
+        verify(peers).publish(any(WeatherSnapshot.class));
+        verify(events).publishEvent(any(WeatherUpdatedEvent.class));
         var snap = service.snapshot();
         assertNotNull(snap);
 
@@ -65,4 +85,136 @@ class WeatherServiceTest {
         assertEquals(61,  snap.tomorrow().code());
     }
 
+    @Test
+    void refresh_fillsMissingSunTimes_fromLocalCalculation() {
+        var sunrise = new java.util.ArrayList<String>();
+        sunrise.add(null);
+        sunrise.add("2025-09-11T06:56");
+        var dto = new OpenMeteoDto(
+                new OpenMeteoDto.Daily(
+                        List.of("2025-09-10","2025-09-11"),
+                        List.of(21, 18),
+                        List.of(12, 10),
+                        List.of(0.3, 2.1),
+                        List.of(2, 61),
+                        sunrise,
+                        null,
+                        List.of(40, 60),
+                        List.of(70, 80)
+                )
+        );
+        when(meteo.fetchDailySummary(anyDouble(), anyDouble(), anyString(), eq(2))).thenReturn(dto);
+
+        service.refresh();
+
+        var snap = service.snapshot();
+        assertEquals("2025-09-10T06:51", snap.today().sunrise());
+        assertEquals("2025-09-10T19:50", snap.today().sunset());
+        assertEquals("2025-09-11T06:56", snap.tomorrow().sunrise(), "upstream value kept");
+        assertEquals("2025-09-11T19:48", snap.tomorrow().sunset());
+    }
+
+    @Test
+    void refresh_publishesToPeers_evenWhenLocalFanOutFails() {
+        var dto = new OpenMeteoDto(
+                new OpenMeteoDto.Daily(
+                        List.of("2025-09-10","2025-09-11"),
+                        List.of(21, 18),
+                        List.of(12, 10),
+                        List.of(0.3, 2.1),
+                        List.of(2, 61),
+                        List.of("2025-09-10T06:54","2025-09-11T06:56"),
+                        List.of("2025-09-10T19:43","2025-09-11T19:41"),
+                        List.of(40, 60),
+                        List.of(70, 80)
+                )
+        );
+        when(meteo.fetchDailySummary(anyDouble(), anyDouble(), anyString(), eq(2))).thenReturn(dto);
+        doThrow(new IllegalStateException("listener failed")).when(events).publishEvent(any(Object.class));
+
+        service.refresh();
+
+        verify(peers).publish(any(WeatherSnapshot.class));
+        assertNotNull(service.snapshot());
+    }
+
+    @Test
+    void leaderLost_failoverFetchRunsOffTheHeartbeatThread_evenWhenSlow() throws Exception {
+        var release = new java.util.concurrent.CountDownLatch(1);
+        var fetched = new java.util.concurrent.CountDownLatch(1);
+        when(meteo.fetchDailySummary(anyDouble(), anyDouble(), anyString(), eq(2))).thenAnswer(inv -> {
+            release.await(5, java.util.concurrent.TimeUnit.SECONDS);
+            fetched.countDown();
+            return null;
+        });
+
+        long t0 = System.nanoTime();
+        service.onLeaderLost(new PeerLeaderLostEvent("hub-a"));
+        service.onLeaderLost(new PeerLeaderLostEvent("hub-a"));
+        long tookMs = (System.nanoTime() - t0) / 1_000_000;
+
+        assertTrue(tookMs < 100, "heartbeat blocked for " + tookMs + " ms");
+        release.countDown();
+        assertTrue(fetched.await(5, java.util.concurrent.TimeUnit.SECONDS));
+        Thread.sleep(50);
+        verify(meteo, atMost(2)).fetchDailySummary(anyDouble(), anyDouble(), anyString(), eq(2));
+        service.shutdown();
+    }
+
+    @Test
+    void refresh_skipsUpstream_whileAnotherHubLeads() {
+        when(peers.deferToLeader()).thenReturn(true);
+
+        service.refresh();
+
+        verifyNoInteractions(meteo, broadcaster, events);
+        verify(peers, never()).publish(any());
+        assertNull(service.snapshot().today().max());
+    }
+
+    @Test
+    void snapshot_beforeFirstRefresh_carriesLocalSunTimes() {
+        var snap = service.snapshot();
+
+        var today = java.time.LocalDate.now(java.time.ZoneId.of("Europe/Berlin"));
+        assertNull(snap.today().max());
+        assertTrue(snap.today().sunrise().startsWith(today.toString()));
+        assertTrue(snap.tomorrow().sunset().startsWith(today.plusDays(1).toString()));
+        assertSame(snap, service.snapshot(), "built once per day");
+        verifyNoInteractions(broadcaster, events);
+    }
+
+    @Test
+    void refresh_upstreamUnreachable_stillServesSunTimes() {
+        when(meteo.fetchDailySummary(anyDouble(), anyDouble(), anyString(), eq(2)))
+                .thenThrow(new IllegalStateException("connect timed out"));
+
+        service.refresh();
+
+        var snap = service.snapshot();
+        assertNull(snap.today().code());
+        assertNotNull(snap.today().sunrise());
+        assertNotNull(snap.today().sunset());
+        verify(peers, never()).publish(any());
+    }
+
+    @Test
+    void peerSnapshot_isCachedAndBroadcast_onlyWhenNewer() {
+        var newer = snapshotAt("2025-09-10T09:00:00+02:00");
+        var older = snapshotAt("2025-09-10T08:00:00+02:00");
+
+        service.onPeerSnapshot(new PeerSnapshotEvent(newer));
+        service.onPeerSnapshot(new PeerSnapshotEvent(older));
+        service.onPeerSnapshot(new PeerSnapshotEvent(newer));
+
+        assertSame(newer, service.snapshot());
+        verify(broadcaster, times(1)).broadcast(newer);
+        verifyNoMoreInteractions(broadcaster);
+        verifyNoInteractions(peers);
+    }
+
+    private static WeatherSnapshot snapshotAt(String updatedAt) {
+        var day = new WeatherSnapshot.Day(21, 12, 0.3, 2, 40, 70, "2025-09-10T06:54", "2025-09-10T19:43");
+        return new WeatherSnapshot(OffsetDateTime.parse(updatedAt), day, day);
+    }
 }
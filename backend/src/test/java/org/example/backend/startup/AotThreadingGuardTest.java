@@ -0,0 +1,21 @@
+package org.example.backend.startup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AotThreadingGuardTest {
+
+    @Test
+    void matchingModes_start() {
+        assertDoesNotThrow(() -> AotThreadingGuard.check(true, true));
+        assertDoesNotThrow(() -> AotThreadingGuard.check(false, false));
+    }
+
+    @Test
+    void mixedModes_failFast() {
+        var e = assertThrows(IllegalStateException.class, () -> AotThreadingGuard.check(true, false));
+        assertTrue(e.getMessage().contains("platform"), e.getMessage());
+        assertThrows(IllegalStateException.class, () -> AotThreadingGuard.check(false, true));
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.backend.startup;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupTimelineTest {
+
+    @BeforeEach
+    @AfterEach
+    void reset() {
+        StartupTimeline.reset();
+    }
+
+    @Test
+    void markOnce_keepsFirstValue() {
+        assertTrue(StartupTimeline.markOnce(StartupTimeline.MAIN));
+        Long first = StartupTimeline.get(StartupTimeline.MAIN);
+
+        assertFalse(StartupTimeline.markOnce(StartupTimeline.MAIN));
+        assertEquals(first, StartupTimeline.get(StartupTimeline.MAIN));
+    }
+
+    @Test
+    void phases_areConsecutive_andSkipFirstChime() {
+        StartupTimeline.markOnce(StartupTimeline.MAIN);
+        StartupTimeline.markOnce(StartupTimeline.CHIME_READY);
+        StartupTimeline.markOnce(StartupTimeline.READY);
+        StartupTimeline.markOnce(StartupTimeline.FIRST_CHIME);
+
+        var phases = StartupReporter.phases();
+
+        assertEquals(List.of("jvm->main", "main->chimeReady", "chimeReady->ready"), List.copyOf(phases.keySet()));
+        long sum = phases.values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(StartupTimeline.get(StartupTimeline.READY), sum);
+    }
+}
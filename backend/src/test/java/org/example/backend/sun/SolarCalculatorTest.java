@@ -0,0 +1,72 @@
+package org.example.backend.sun;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolarCalculatorTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    @Test
+    void matchesPublishedTimes_forBerlin() {
+        var date = LocalDate.of(2025, 9, 10);
+        // almanac: 06:31 / 19:33 CEST
+        assertEquals(6 * 60 + 31, rise(date, 52.52, 13.405), 2);
+        assertEquals(19 * 60 + 33, set(date, 52.52, 13.405), 2);
+    }
+
+    @Test
+    void civilTwilight_bracketsSunriseAndSunset() {
+        var date = LocalDate.of(2025, 12, 21);
+        int dawn = SolarCalculator.localMinutes(date, 51.938, 8.875, BERLIN, SolarCalculator.CIVIL_ZENITH, true);
+        int dusk = SolarCalculator.localMinutes(date, 51.938, 8.875, BERLIN, SolarCalculator.CIVIL_ZENITH, false);
+        assertTrue(dawn < rise(date, 51.938, 8.875));
+        assertTrue(dusk > set(date, 51.938, 8.875));
+        assertEquals(40, rise(date, 51.938, 8.875) - dawn, 5);
+    }
+
+    @Test
+    void followsDaylightSavingTime() {
+        // same sun, one hour later on the wall clock after the switch
+        int before = rise(LocalDate.of(2025, 3, 29), 51.938, 8.875);
+        int after = rise(LocalDate.of(2025, 3, 30), 51.938, 8.875);
+        assertEquals(60, after - before, 3);
+    }
+
+    @Test
+    void polarDayAndNight_haveNoSunriseOrSunset() {
+        var tromso = ZoneId.of("Europe/Oslo");
+        var midsummer = LocalDate.of(2025, 6, 21);
+        var midwinter = LocalDate.of(2025, 12, 21);
+        assertEquals(SolarCalculator.NONE,
+                SolarCalculator.localMinutes(midsummer, 69.65, 18.96, tromso, SolarCalculator.SUNRISE_ZENITH, true));
+        assertEquals(SolarCalculator.NONE,
+                SolarCalculator.localMinutes(midwinter, 69.65, 18.96, tromso, SolarCalculator.SUNRISE_ZENITH, false));
+        assertNotEquals(SolarCalculator.NONE,
+                SolarCalculator.localMinutes(midwinter, 69.65, 18.96, tromso, SolarCalculator.CIVIL_ZENITH, true),
+                "civil twilight still happens in the polar night at 69.6°N");
+    }
+
+    @Test
+    void farFromUtc_staysOnTheLocalDate() {
+        var auckland = ZoneId.of("Pacific/Auckland");
+        var date = LocalDate.of(2025, 1, 15);
+        int rise = SolarCalculator.localMinutes(date, -36.85, 174.76, auckland, SolarCalculator.SUNRISE_ZENITH, true);
+        int set = SolarCalculator.localMinutes(date, -36.85, 174.76, auckland, SolarCalculator.SUNRISE_ZENITH, false);
+        // almanac: 06:17 / 20:42 NZDT
+        assertEquals(6 * 60 + 17, rise, 2);
+        assertEquals(20 * 60 + 42, set, 2);
+    }
+
+    private static int rise(LocalDate date, double lat, double lon) {
+        return SolarCalculator.localMinutes(date, lat, lon, BERLIN, SolarCalculator.SUNRISE_ZENITH, true);
+    }
+
+    private static int set(LocalDate date, double lat, double lon) {
+        return SolarCalculator.localMinutes(date, lat, lon, BERLIN, SolarCalculator.SUNRISE_ZENITH, false);
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.backend.sun;
+
+import org.example.backend.config.WeatherProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SunServiceTest {
+
+    private final SunService service = new SunService(new WeatherProperties(51.938, 8.875, "Europe/Berlin"));
+
+    @Test
+    void day_readsFromTheYearTable_inOpenMeteoFormat() {
+        var times = service.day(LocalDate.of(2025, 9, 10));
+        assertEquals("2025-09-10T06:51", times.sunrise());
+        assertEquals("2025-09-10T19:50", times.sunset());
+        assertTrue(times.civilDawn().compareTo(times.sunrise()) < 0);
+        assertTrue(times.civilDusk().compareTo(times.sunset()) > 0);
+    }
+
+    @Test
+    void range_spansYears_andLeapDays() {
+        var days = service.range(LocalDate.of(2027, 12, 30), LocalDate.of(2028, 3, 1));
+        assertEquals(63, days.size());
+        assertEquals(LocalDate.of(2028, 2, 29), days.get(61).date());
+        assertTrue(days.get(61).sunrise().startsWith("2028-02-29T07:"));
+        assertEquals(LocalDate.of(2028, 3, 1), days.get(62).date());
+    }
+
+    @Test
+    void polarNight_hasNullSunriseAndSunset() {
+        var tromso = new SunService(new WeatherProperties(69.65, 18.96, "Europe/Oslo"));
+        var times = tromso.day(LocalDate.of(2025, 12, 21));
+        assertNull(times.sunrise());
+        assertNull(times.sunset());
+        assertNotNull(times.civilDawn());
+    }
+
+    @Test
+    void onlyCurrentAndNextYear_areCached() {
+        int year = service.today().getYear();
+        service.precompute();
+
+        service.range(LocalDate.of(1900, 1, 1), LocalDate.of(1900, 12, 31));
+        service.day(LocalDate.of(3000, 6, 21));
+        service.day(LocalDate.of(year + 1, 6, 21));
+
+        assertEquals(java.util.Set.of(year, year + 1), service.cachedYears());
+        assertEquals(java.util.Set.of(1900, 3000), service.cachedOtherYears());
+    }
+
+    @Test
+    void otherYears_areKeptInABoundedLru() {
+        for (int y = 1990; y < 1990 + SunService.OTHER_YEARS; y++) service.day(LocalDate.of(y, 6, 21));
+        service.day(LocalDate.of(1990, 6, 22));
+        service.day(LocalDate.of(1900, 6, 21));
+
+        var cached = service.cachedOtherYears();
+        assertEquals(SunService.OTHER_YEARS, cached.size());
+        assertTrue(cached.contains(1990), "recently used year kept");
+        assertFalse(cached.contains(1991), "least recently used year evicted");
+    }
+}
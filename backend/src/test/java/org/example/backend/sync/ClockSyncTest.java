@@ -0,0 +1,53 @@
+package org.example.backend.sync;
+
+import org.example.backend.config.PeerProperties;
+import org.example.backend.config.SyncProperties;
+import org.example.backend.peer.PeerChannel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClockSyncTest {
+
+    private final ClockSync sync = new ClockSync(
+            new PeerChannel(new PeerProperties(false, "239.255.42.99", 45999, null, "me", 2000, 7000)),
+            new HubClock(0),
+            new SyncProperties(true, 250, 1000, 3, 0, SyncProperties.Sink.FILE, null));
+
+    @Test
+    void sample_offsetAndDelay_fromFourTimestamps() {
+        // peer is 100 ahead, 10 each way on the wire, 5 to answer
+        var s = ClockSync.Sample.of(1_000, 1_110, 1_115, 1_025);
+        assertEquals(100, s.offsetNanos());
+        assertEquals(20, s.delayNanos());
+    }
+
+    @Test
+    void offset_comesFromTheLeastDelayedSample_inTheWindow() {
+        assertTrue(sync.offset("peer").isEmpty());
+        assertEquals(500, sync.toLocal("peer", 500), "unknown peer: no correction");
+
+        sync.record("peer", new ClockSync.Sample(130, 60));
+        sync.record("peer", new ClockSync.Sample(100, 20));
+        sync.record("peer", new ClockSync.Sample(90, 40));
+        assertEquals(100, sync.offset("peer").getAsLong());
+        assertEquals(400, sync.toLocal("peer", 500));
+
+        sync.record("peer", new ClockSync.Sample(120, 50));
+        assertEquals(100, sync.offset("peer").getAsLong());
+        sync.record("peer", new ClockSync.Sample(110, 45));
+        assertEquals(90, sync.offset("peer").getAsLong(), "best sample aged out of the window");
+    }
+
+    @Test
+    void hubClock_skewShiftsTime_butNotTheNanoTimeItMapsTo() {
+        var straight = new HubClock(0);
+        var skewed = new HubClock(40);
+        long diff = skewed.now() - straight.now();
+        assertEquals(40_000_000, diff, 1_000_000);
+
+        long nano = System.nanoTime() + 1_000_000;
+        assertEquals(nano, straight.toNanoTime(straight.now() + 1_000_000), 1_000_000);
+        assertEquals(straight.toNanoTime(straight.now()), skewed.toNanoTime(skewed.now()), 1_000_000);
+    }
+}
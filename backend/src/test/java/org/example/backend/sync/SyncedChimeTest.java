@@ -0,0 +1,148 @@
+package org.example.backend.sync;
+
+import org.example.backend.audio.PreparedChime;
+import org.example.backend.config.PeerProperties;
+import org.example.backend.config.SyncProperties;
+import org.example.backend.peer.PeerChannel;
+import org.example.backend.peer.PeerChannels;
+import org.example.backend.service.ChimeService;
+import org.example.backend.startup.StartupTimeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sound.sampled.AudioFormat;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/** Hubs with deliberately wrong clocks in one JVM, recording to file sinks, as several instances on one host would. */
+class SyncedChimeTest {
+
+    private static final long TOLERANCE_MICROS = 5_000;
+
+    @TempDir
+    Path dir;
+
+    private final int port = ThreadLocalRandom.current().nextInt(46_000, 47_000);
+    private final List<Hub> hubs = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (var h : hubs) {
+            h.chime.stop();
+            PeerChannels.close(h.channel);
+        }
+    }
+
+    @Test
+    void pressOnOneHub_startsOnAll_despiteSkewedClocks() throws Exception {
+        var a = hub("a", 0);
+        var b = hub("b", 45);
+        var c = hub("c", -70);
+        syncClocks();
+        assertEquals(-45, b.sync.offset("a").getAsLong() / 1_000_000.0, 2, "b sees a 45 ms behind");
+
+        b.service.playAsync(b.service.resolveSource().orElseThrow());
+
+        assertTrue(await(() -> starts(a).size() == 1 && starts(b).size() == 1 && starts(c).size() == 1));
+        assertInStep(starts(a).get(0), starts(b).get(0), starts(c).get(0));
+        assertEquals("b", starts(c).get(0)[1]);
+        assertNotNull(StartupTimeline.get(StartupTimeline.FIRST_CHIME), "first chime recorded in sync mode too");
+    }
+
+    @Test
+    void pressesOnTwoHubs_forTheSameRing_collapseIntoTheEarliest() throws Exception {
+        var a = hub("a", 0);
+        var b = hub("b", 30);
+        var c = hub("c", -30);
+        syncClocks();
+
+        var src = a.service.resolveSource().orElseThrow();
+        c.service.playAsync(src);
+        Thread.sleep(20);
+        a.service.playAsync(src);
+
+        assertTrue(await(() -> starts(a).size() == 1 && starts(b).size() == 1 && starts(c).size() == 1));
+        Thread.sleep(400);
+        for (var h : List.of(a, b, c)) {
+            assertEquals(1, starts(h).size(), "one chime per ring on " + h.node);
+            assertEquals("c", starts(h).get(0)[1], "earliest press wins");
+        }
+        assertInStep(starts(a).get(0), starts(b).get(0), starts(c).get(0));
+    }
+
+    private Hub hub(String node, long skewMs) throws IOException {
+        var channel = new PeerChannel(new PeerProperties(true, "239.255.42.99", port, null, node, 2000, 7000));
+        try {
+            PeerChannels.open(channel);
+        } catch (IOException e) {
+            assumeTrue(false, "multicast unavailable here: " + e.getMessage());
+        }
+        var props = new SyncProperties(true, 150, 1000, 8, skewMs, SyncProperties.Sink.FILE,
+                dir.resolve(node + ".csv").toString());
+        var clock = new HubClock(skewMs);
+        var sync = new ClockSync(channel, clock, props);
+        var service = new ChimeService();
+        var src = service.resolveSource().orElseThrow();
+        var format = new AudioFormat(48_000, 16, 2, true, false);
+        service.usePrepared(src.classpath(), new PreparedChime(format, new byte[4 * 4_800], false));
+        var chime = new SyncedChime(channel, sync, clock, service, props);
+        chime.start();
+        var hub = new Hub(node, channel, sync, service, chime, dir.resolve(node + ".csv"));
+        hubs.add(hub);
+        return hub;
+    }
+
+    private void syncClocks() throws InterruptedException {
+        boolean synced = await(() -> {
+            for (var h : hubs) h.sync.ping();
+            return hubs.stream().allMatch(h -> hubs.stream()
+                    .filter(o -> o != h)
+                    .allMatch(o -> h.sync.offset(o.node).isPresent()));
+        });
+        assumeTrue(synced, "no multicast delivery on this host");
+        for (int i = 0; i < 8; i++) {
+            for (var h : hubs) h.sync.ping();
+            Thread.sleep(20);
+        }
+    }
+
+    private static void assertInStep(String[]... starts) {
+        long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+        for (var s : starts) {
+            long micros = Long.parseLong(s[3]);
+            min = Math.min(min, micros);
+            max = Math.max(max, micros);
+        }
+        assertTrue(max - min < TOLERANCE_MICROS, "start spread " + (max - min) + " us");
+    }
+
+    private static List<String[]> starts(Hub hub) {
+        try {
+            if (!Files.exists(hub.file)) return List.of();
+            return Files.readAllLines(hub.file).stream().map(l -> l.split(",")).toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) return false;
+            Thread.sleep(50);
+        }
+        return true;
+    }
+
+    private record Hub(String node, PeerChannel channel, ClockSync sync, ChimeService service,
+                       SyncedChime chime, Path file) {}
+}
@@ -0,0 +1,47 @@
+package org.example.backend.trigger;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriggerPacketTest {
+
+    @Test
+    void trigger_roundTrip() {
+        byte[] bytes = TriggerPacket.encodeTrigger(TriggerPacket.mac("s3cret"), 42, 1_757_000_000_000L);
+
+        assertEquals(TriggerPacket.TRIGGER_LENGTH, bytes.length);
+        var t = TriggerPacket.decodeTrigger(TriggerPacket.mac("s3cret"), ByteBuffer.wrap(bytes));
+        assertEquals(new TriggerPacket.Trigger(42, 1_757_000_000_000L), t);
+    }
+
+    @Test
+    void trigger_withWrongSecretOrTamperedBytes_isRejected() {
+        byte[] bytes = TriggerPacket.encodeTrigger(TriggerPacket.mac("s3cret"), 42, 1L);
+
+        assertNull(TriggerPacket.decodeTrigger(TriggerPacket.mac("other"), ByteBuffer.wrap(bytes)));
+
+        bytes[10] ^= 1;
+        assertNull(TriggerPacket.decodeTrigger(TriggerPacket.mac("s3cret"), ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    void trigger_withWrongLength_isRejected() {
+        byte[] bytes = TriggerPacket.encodeTrigger(TriggerPacket.mac("s3cret"), 42, 1L);
+        var longer = ByteBuffer.allocate(bytes.length + 1).put(bytes).put((byte) 0).flip();
+
+        assertNull(TriggerPacket.decodeTrigger(TriggerPacket.mac("s3cret"), longer));
+    }
+
+    @Test
+    void ack_roundTrip_andIsNotAcceptedAsTrigger() {
+        var mac = TriggerPacket.mac("s3cret");
+        byte[] bytes = TriggerPacket.encodeAck(mac, 7, TriggerPacket.STATUS_NO_SOURCE, 123);
+
+        assertEquals(new TriggerPacket.Ack(7, TriggerPacket.STATUS_NO_SOURCE, 123),
+                TriggerPacket.decodeAck(mac, ByteBuffer.wrap(bytes)));
+        assertNull(TriggerPacket.decodeTrigger(mac, ByteBuffer.wrap(bytes)));
+    }
+}
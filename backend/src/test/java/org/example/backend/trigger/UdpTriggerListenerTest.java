@@ -0,0 +1,107 @@
+package org.example.backend.trigger;
+
+import org.example.backend.config.TriggerProperties;
+import org.example.backend.model.SoundSource;
+import org.example.backend.service.ChimeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UdpTriggerListenerTest {
+
+    private static final String SECRET = "s3cret";
+    private static final SoundSource SRC = new SoundSource("sounds/doorbell.mp3", true);
+
+    private final ChimeService chime = mock(ChimeService.class);
+    private UdpTriggerListener listener;
+    private DatagramChannel device;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(chime.resolveSource()).thenReturn(Optional.of(SRC));
+        listener = new UdpTriggerListener(new TriggerProperties(true, "127.0.0.1", 0, SECRET, 5_000), chime);
+        listener.start();
+        device = DatagramChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+        device.socket().setSoTimeout(2_000);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listener.stop();
+        device.close();
+    }
+
+    @Test
+    void validTrigger_dispatchesChime_andIsAcknowledged() throws Exception {
+        var ack = send(TriggerPacket.encodeTrigger(TriggerPacket.mac(SECRET), 1, System.currentTimeMillis()));
+
+        assertEquals(1, ack.counter());
+        assertEquals(TriggerPacket.STATUS_OK, ack.status());
+        assertTrue(ack.dispatchUs() >= 0);
+        verify(chime).playAsync(SRC);
+    }
+
+    @Test
+    void retransmittedTrigger_isAcknowledgedAgain_withoutPlayingTwice() throws Exception {
+        byte[] first = TriggerPacket.encodeTrigger(TriggerPacket.mac(SECRET), 5, System.currentTimeMillis());
+
+        assertEquals(TriggerPacket.STATUS_OK, send(first).status());
+        var again = send(first);
+
+        assertEquals(5, again.counter());
+        assertEquals(TriggerPacket.STATUS_OK, again.status());
+        verify(chime, times(1)).playAsync(SRC);
+    }
+
+    @Test
+    void olderOrStaleTrigger_isRejected() throws Exception {
+        var mac = TriggerPacket.mac(SECRET);
+        send(TriggerPacket.encodeTrigger(mac, 5, System.currentTimeMillis()));
+
+        assertEquals(TriggerPacket.STATUS_REJECTED,
+                send(TriggerPacket.encodeTrigger(mac, 4, System.currentTimeMillis())).status());
+        assertEquals(TriggerPacket.STATUS_REJECTED,
+                send(TriggerPacket.encodeTrigger(mac, 6, System.currentTimeMillis() - 60_000)).status());
+        verify(chime, times(1)).playAsync(SRC);
+    }
+
+    @Test
+    void unauthenticatedTrigger_isIgnoredWithoutAck() throws Exception {
+        byte[] forged = TriggerPacket.encodeTrigger(TriggerPacket.mac("guess"), 1, System.currentTimeMillis());
+
+        assertThrows(SocketTimeoutException.class, () -> {
+            device.socket().setSoTimeout(300);
+            send(forged);
+        });
+        verify(chime, never()).playAsync(any());
+    }
+
+    @Test
+    void disabled_doesNotBind() throws Exception {
+        var unused = mock(ChimeService.class);
+        var off = new UdpTriggerListener(new TriggerProperties(false, "127.0.0.1", 0, null, 5_000), unused);
+        off.start();
+        verifyNoInteractions(unused);
+        off.stop();
+    }
+
+    private TriggerPacket.Ack send(byte[] packet) throws Exception {
+        var target = new InetSocketAddress("127.0.0.1", listener.localPort());
+        device.socket().send(new java.net.DatagramPacket(packet, packet.length, target));
+        var reply = new java.net.DatagramPacket(new byte[64], 64);
+        device.socket().receive(reply);
+        var ack = TriggerPacket.decodeAck(TriggerPacket.mac(SECRET),
+                ByteBuffer.wrap(reply.getData(), 0, reply.getLength()));
+        assertNotNull(ack);
+        return ack;
+    }
+}
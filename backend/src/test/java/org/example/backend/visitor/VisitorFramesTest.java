@@ -0,0 +1,116 @@
+package org.example.backend.visitor;
+
+import org.example.backend.config.VisitorProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VisitorFramesTest {
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private final VisitorFrames frames = new VisitorFrames(new VisitorProperties(3, 1 << 20, 64, 1, 1 << 20), events::add);
+
+    @AfterEach
+    void tearDown() {
+        frames.shutdown();
+    }
+
+    @Test
+    void keepsTheLastN_newestFirst_withUniqueIncreasingIds() throws IOException {
+        byte[] jpeg = jpeg(200, 100);
+        var first = frames.add(jpeg);
+        var f2 = frames.add(jpeg);
+        var f3 = frames.add(jpeg);
+        var f4 = frames.add(jpeg);
+
+        assertTrue(f2.id() > first.id() && f3.id() > f2.id() && f4.id() > f3.id());
+        assertEquals(List.of(f4, f3, f2), frames.recent());
+        assertTrue(frames.get(first.key()).isEmpty(), "oldest evicted");
+        assertSame(f3, frames.get(f3.key()).orElseThrow());
+    }
+
+    @Test
+    void thumbnail_isScaledOffTheCallingThread_andAnnounced() throws Exception {
+        var frame = frames.add(jpeg(640, 480));
+        assertEquals(List.of(new VisitorFrameEvent(frame)), events.subList(0, 1));
+
+        byte[] thumb = frame.thumbnail().get(5, TimeUnit.SECONDS);
+        var img = ImageIO.read(new ByteArrayInputStream(thumb));
+        assertEquals(64, img.getWidth());
+        assertEquals(48, img.getHeight());
+        assertSame(thumb, frame.thumbnailIfReady());
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (events.size() < 2 && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        assertEquals(2, events.size(), "announced again once the thumbnail is ready");
+    }
+
+    @Test
+    void aBurstOfFrames_queuesNoMoreThumbnailsThanTheRingHolds() throws Exception {
+        byte[] jpeg = jpeg(1024, 768);
+        VisitorFrame last = null;
+        for (int i = 0; i < 20; i++) {
+            last = frames.add(jpeg);
+            assertTrue(frames.queuedThumbnails() <= 3, "queue bounded by capacity");
+        }
+        assertNotNull(last.thumbnail().get(5, TimeUnit.SECONDS), "newest frame still gets its thumbnail");
+    }
+
+    @Test
+    void rejectsNonJpeg_andFailsTheThumbnailOfACorruptOne() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> frames.add("GIF89a".getBytes()));
+
+        var corrupt = frames.add(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0, 1, 2});
+        assertThrows(Exception.class, () -> corrupt.thumbnail().get(5, TimeUnit.SECONDS));
+        assertNull(corrupt.thumbnailIfReady());
+    }
+
+    @Test
+    void keys_differAcrossRestarts_evenForTheSameMillisecond() {
+        var restarted = new VisitorFrames(new VisitorProperties(3, 1 << 20, 64, 1, 1 << 20), events::add);
+        try {
+            var a = frames.add(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0});
+            var b = restarted.add(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0});
+
+            assertTrue(a.key().startsWith(a.id() + "-"));
+            assertNotEquals(a.key().substring(a.key().indexOf('-')), b.key().substring(b.key().indexOf('-')));
+            assertTrue(restarted.get(a.key()).isEmpty());
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    @Test
+    void thumbnail_isRefused_whenTheHeaderDeclaresTooManyPixels() throws Exception {
+        var small = new VisitorFrames(new VisitorProperties(3, 1 << 20, 64, 1, 100 * 100), events::add);
+        try {
+            var frame = small.add(jpeg(200, 100));
+            var err = assertThrows(Exception.class, () -> frame.thumbnail().get(5, TimeUnit.SECONDS));
+            assertTrue(err.getMessage().contains("200x100"), err.getMessage());
+            assertNull(frame.thumbnailIfReady());
+        } finally {
+            small.shutdown();
+        }
+    }
+
+    static byte[] jpeg(int width, int height) throws IOException {
+        var img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        var g = img.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, width / 2, height);
+        g.dispose();
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(img, "jpeg", out);
+        return out.toByteArray();
+    }
+}
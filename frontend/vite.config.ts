@@ -19,7 +19,7 @@ export default defineConfig({
     strictPort: true,
     hmr: { protocol: 'wss', host },
     proxy: {
-      '/api': { target: `http://localhost:${apiPort}`, changeOrigin: true },
+      '/api': { target: `http://localhost:${apiPort}`, changeOrigin: true, ws: true },
     },
   },
 })